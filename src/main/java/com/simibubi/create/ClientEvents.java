@@ -147,6 +147,8 @@ public class ClientEvents {
 
 	@SubscribeEvent
 	public static void onRenderTick(RenderTickEvent event) {
+		if (event.phase == Phase.START)
+			AnimationTickHolder.frame();
 		if (!isGameActive())
 			return;
 
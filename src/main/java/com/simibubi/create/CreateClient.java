@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import com.simibubi.create.config.AllConfigs;
 import com.simibubi.create.foundation.block.IHaveCustomBlockModel;
 import com.simibubi.create.foundation.block.connected.IHaveConnectedTextures;
 import com.simibubi.create.foundation.block.render.SpriteShiftEntry;
@@ -63,7 +64,8 @@ public class CreateClient {
 
 		bufferCache = new SuperByteBufferCache();
 		bufferCache.registerCompartment(KineticTileEntityRenderer.KINETIC_TILE);
-		bufferCache.registerCompartment(ContraptionRenderer.CONTRAPTION, 20);
+		bufferCache.registerCompartment(ContraptionRenderer.CONTRAPTION, 20,
+				AllConfigs.CLIENT.contraptionBufferCacheSize::get);
 
 		AllKeys.register();
 		AllContainers.registerScreenFactories();
@@ -83,6 +85,7 @@ public class CreateClient {
 		schematicHandler.tick();
 		schematicHologram.tick();
 		ChassisRangeDisplay.clientTick();
+		bufferCache.tick();
 	}
 
 	@OnlyIn(Dist.CLIENT)
@@ -3,6 +3,7 @@ package com.simibubi.create;
 import java.util.Arrays;
 
 import com.simibubi.create.config.AllConfigs;
+import com.simibubi.create.modules.contraptions.components.contraptions.ContraptionCollider;
 import com.simibubi.create.modules.curiosities.partialWindows.WindowInABlockTileEntity;
 
 import net.minecraft.block.BlockState;
@@ -32,8 +33,10 @@ public class Events {
 
 	@SubscribeEvent
 	public static void onTick(ServerTickEvent event) {
-		if (event.phase == Phase.END)
+		if (event.phase == Phase.END) {
+			Create.torquePropagator.tick();
 			return;
+		}
 
 		Create.tick();
 	}
@@ -57,6 +60,7 @@ public class Events {
 		IWorld world = event.getWorld();
 		Create.redstoneLinkNetworkHandler.onUnloadWorld(world);
 		Create.torquePropagator.onUnloadWorld(world);
+		ContraptionCollider.onUnloadWorld(world);
 	}
 
 	@SubscribeEvent
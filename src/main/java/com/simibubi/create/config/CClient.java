@@ -12,6 +12,10 @@ public class CClient extends ConfigBase {
 	public ConfigFloat fanParticleDensity = f(.5f, 0, 1, "fanParticleDensity");
 	public ConfigBool rainbowDebug =
 		b(true, "enableRainbowDebug", "Show colourful debug information while the F3-Menu is open.");
+	public ConfigInt tileBufferCacheSize = i(16384, 256, "tileBufferCacheSize",
+			"Memory in kilobytes each compartment of cached block render buffers may use.");
+	public ConfigInt contraptionBufferCacheSize = i(65536, 1024, "contraptionBufferCacheSize",
+			"Memory in kilobytes the cached render buffers of moving contraptions may use.");
 
 	@Override
 	public String getName() {
@@ -26,6 +26,10 @@ public class CKinetics extends ConfigBase {
 	public ConfigInt maxChassisRange = i(16, 1, "maxChassisRange", Comments.maxChassisRange);
 	public ConfigInt maxPistonPoles = i(64, 1, "maxPistonPoles", Comments.maxPistonPoles);
 	public ConfigInt maxRopeLength = i(128, 1, "maxRopeLength", Comments.maxRopeLength);
+	public ConfigInt assemblyStepsPerTick =
+		i(512, 1, "assemblyStepsPerTick", Comments.assemblyStepsPerTick);
+	public ConfigBool rotatedContraptionCollisions =
+		b(true, "rotatedContraptionCollisions", Comments.rotatedContraptionCollisions);
 
 	public ConfigGroup state = group(0, "stats", Comments.stats);
 	public ConfigFloat mediumSpeed = f(30, 0, 4096, "mediumSpeed", Comments.rpm, Comments.mediumSpeed);
@@ -58,6 +62,8 @@ public class CKinetics extends ConfigBase {
 		static String maxChassisRange = "Maximum value of a chassis attachment range.";
 		static String maxPistonPoles = "Maximum amount of extension poles behind a Mechanical Piston.";
 		static String maxRopeLength = "Max length of rope available off a Rope Pulley.";
+		static String rotatedContraptionCollisions = "Whether entities collide with structures rotated by Bearings.";
+		static String assemblyStepsPerTick = "Blocks searched per game tick while a Bearing assembles its structure. Larger structures are assembled over several ticks.";
 		static String stats = "Configure speed/capacity levels for requirements and indicators.";
 		static String rpm = "[in Revolutions per Minute]";
 		static String su = "[in Stress Units]";
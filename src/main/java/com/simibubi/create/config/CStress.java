@@ -2,22 +2,30 @@ package com.simibubi.create.config;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import com.simibubi.create.AllBlocks;
 import com.simibubi.create.foundation.utility.Lang;
 import com.simibubi.create.modules.contraptions.base.KineticBlock;
 import com.simibubi.create.modules.contraptions.components.flywheel.engine.EngineBlock;
 
+import it.unimi.dsi.fastutil.objects.Reference2FloatMap;
+import it.unimi.dsi.fastutil.objects.Reference2FloatOpenHashMap;
+import net.minecraft.block.Block;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.common.ForgeConfigSpec.Builder;
 import net.minecraftforge.common.ForgeConfigSpec.ConfigValue;
+import net.minecraftforge.registries.ForgeRegistries;
 
 public class CStress extends ConfigBase {
 
 	public Map<ResourceLocation, ConfigValue<Double>> capacities = new HashMap<>();
 	public Map<ResourceLocation, ConfigValue<Double>> impacts = new HashMap<>();
 
+	private Reference2FloatMap<Block> cachedCapacities = createCache(0);
+	private Reference2FloatMap<Block> cachedImpacts = createCache(1);
+
 	@Override
 	protected void registerAll(Builder builder) {
 		builder.comment("", Comments.su, Comments.impact).push("impact");
@@ -47,6 +55,56 @@ public class CStress extends ConfigBase {
 		capacities.put(block.get().getRegistryName(), builder.define(name, defaultStressCapacity));
 	}
 
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		refreshCache();
+	}
+
+	@Override
+	public void onReload() {
+		super.onReload();
+		refreshCache();
+	}
+
+	/**
+	 * Stress capacity of the given block, taken from the table built when the
+	 * config was last (re)loaded.
+	 */
+	public float getCapacity(Block block) {
+		return cachedCapacities.getFloat(block);
+	}
+
+	/**
+	 * Stress impact of the given block, taken from the table built when the config
+	 * was last (re)loaded.
+	 */
+	public float getImpact(Block block) {
+		return cachedImpacts.getFloat(block);
+	}
+
+	private void refreshCache() {
+		cachedCapacities = compileCache(capacities, 0);
+		cachedImpacts = compileCache(impacts, 1);
+	}
+
+	private static Reference2FloatMap<Block> compileCache(Map<ResourceLocation, ConfigValue<Double>> entries,
+			float fallback) {
+		Reference2FloatMap<Block> cache = createCache(fallback);
+		for (Entry<ResourceLocation, ConfigValue<Double>> entry : entries.entrySet()) {
+			Block block = ForgeRegistries.BLOCKS.getValue(entry.getKey());
+			if (block != null)
+				cache.put(block, entry.getValue().get().floatValue());
+		}
+		return cache;
+	}
+
+	private static Reference2FloatMap<Block> createCache(float fallback) {
+		Reference2FloatMap<Block> cache = new Reference2FloatOpenHashMap<>();
+		cache.defaultReturnValue(fallback);
+		return cache;
+	}
+
 	@Override
 	public String getName() {
 		return "stressValues.v" + StressConfigDefaults.forcedUpdateVersion;
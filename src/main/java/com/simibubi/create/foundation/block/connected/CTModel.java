@@ -3,10 +3,14 @@ package com.simibubi.create.foundation.block.connected;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.simibubi.create.foundation.block.connected.ConnectedTextureBehaviour.CTContext;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.renderer.model.BakedQuad;
@@ -18,41 +22,80 @@ import net.minecraft.world.IEnviromentBlockReader;
 import net.minecraftforge.client.model.BakedModelWrapper;
 import net.minecraftforge.client.model.data.EmptyModelData;
 import net.minecraftforge.client.model.data.IModelData;
-import net.minecraftforge.client.model.data.ModelDataMap;
 import net.minecraftforge.client.model.data.ModelProperty;
 
 public class CTModel extends BakedModelWrapper<IBakedModel> {
 
 	private static ModelProperty<CTData> CT_PROPERTY = new ModelProperty<>();
+	private static final int MAX_CACHED_DATA = 4096;
+	private static final ThreadLocal<Long2ObjectMap<CTData>> dataCache =
+		ThreadLocal.withInitial(Long2ObjectOpenHashMap::new);
+
 	private ConnectedTextureBehaviour behaviour;
+	private Map<BakedQuad, ShiftedQuads> shiftedQuads;
 
-	private class CTData {
-		int[] indices;
+	/**
+	 * Texture index of every face, packed into eight bits each. Instances are
+	 * immutable and shared between all blocks with the same connections.
+	 */
+	private static class CTData implements IModelData {
+		final long indices;
 
-		public CTData() {
-			indices = new int[6];
-			Arrays.fill(indices, -1);
+		CTData(long indices) {
+			this.indices = indices;
 		}
 
-		void put(Direction face, int texture) {
-			indices[face.getIndex()] = texture;
+		static long put(long indices, Direction face, int texture) {
+			int shift = face.getIndex() * 8;
+			return indices & ~(0xFFL << shift) | (long) (texture + 1) << shift;
 		}
 
 		int get(Direction face) {
-			return indices[face.getIndex()];
+			return (int) (indices >>> face.getIndex() * 8 & 0xFF) - 1;
+		}
+
+		@Override
+		public boolean hasProperty(ModelProperty<?> prop) {
+			return prop == CT_PROPERTY;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getData(ModelProperty<T> prop) {
+			return prop == CT_PROPERTY ? (T) this : null;
+		}
+
+		@Override
+		public <T> T setData(ModelProperty<T> prop, T data) {
+			return null;
+		}
+	}
+
+	/**
+	 * Copies of a quad with the UVs shifted to each texture of its sheet, created
+	 * as they are first needed.
+	 */
+	private static class ShiftedQuads {
+		final CTSpriteShiftEntry spriteShift;
+		final BakedQuad[] quads;
+
+		ShiftedQuads(CTSpriteShiftEntry spriteShift) {
+			this.spriteShift = spriteShift;
+			quads = new BakedQuad[spriteShift.textureSheetSize * spriteShift.textureSheetSize];
 		}
 	}
 
 	public CTModel(IBakedModel originalModel, IHaveConnectedTextures block) {
 		super(originalModel);
 		behaviour = block.getBehaviour();
+		shiftedQuads = new ConcurrentHashMap<>();
 	}
 
 	@Override
 	public IModelData getModelData(IEnviromentBlockReader world, BlockPos pos, BlockState state, IModelData tileData) {
 		if (!(state.getBlock() instanceof IHaveConnectedTextures))
 			return EmptyModelData.INSTANCE;
-		CTData data = new CTData();
+		long indices = 0;
 
 		for (Direction face : Direction.values()) {
 			if (!Block.shouldSideBeRendered(state, world, pos, face))
@@ -61,9 +104,19 @@ public class CTModel extends BakedModelWrapper<IBakedModel> {
 			if (spriteShift == null)
 				continue;
 			CTContext ctContext = behaviour.buildContext(world, pos, state, face);
-			data.put(face, spriteShift.getTextureIndex(ctContext));
+			indices = CTData.put(indices, face, spriteShift.getTextureIndex(ctContext));
 		}
-		return new ModelDataMap.Builder().withInitial(CT_PROPERTY, data).build();
+
+		// Model data is gathered on the chunk builder threads
+		Long2ObjectMap<CTData> cache = dataCache.get();
+		CTData data = cache.get(indices);
+		if (data == null) {
+			if (cache.size() >= MAX_CACHED_DATA)
+				cache.clear();
+			data = new CTData(indices);
+			cache.put(indices, data);
+		}
+		return data;
 	}
 
 	@Override
@@ -85,29 +138,47 @@ public class CTModel extends BakedModelWrapper<IBakedModel> {
 			if (index == -1)
 				continue;
 
-			float uShift = spriteShift.getUShift(index);
-			float vShift = spriteShift.getVShift(index);
-
-			BakedQuad newQuad =
-				new BakedQuad(Arrays.copyOf(quad.getVertexData(), quad.getVertexData().length), quad.getTintIndex(),
-						quad.getFace(), quad.getSprite(), quad.shouldApplyDiffuseLighting(), quad.getFormat());
-			VertexFormat format = quad.getFormat();
-			int[] vertexData = newQuad.getVertexData();
-
-			for (int vertex = 0; vertex < vertexData.length; vertex += format.getIntegerSize()) {
-				int uvOffset = format.getUvOffsetById(0) / 4;
-				int uIndex = vertex + uvOffset;
-				int vIndex = vertex + uvOffset + 1;
-				float u = Float.intBitsToFloat(vertexData[uIndex]);
-				float v = Float.intBitsToFloat(vertexData[vIndex]);
-				u += uShift;
-				v += vShift;
-				vertexData[uIndex] = Float.floatToIntBits(u);
-				vertexData[vIndex] = Float.floatToIntBits(v);
-			}
-			quads.set(i, newQuad);
+			quads.set(i, getShiftedQuad(quad, spriteShift, index));
 		}
 		return quads;
 	}
 
+	private BakedQuad getShiftedQuad(BakedQuad quad, CTSpriteShiftEntry spriteShift, int index) {
+		ShiftedQuads shifted = shiftedQuads.computeIfAbsent(quad, q -> new ShiftedQuads(spriteShift));
+		if (shifted.spriteShift != spriteShift || index >= shifted.quads.length)
+			return shiftQuad(quad, spriteShift, index);
+
+		BakedQuad newQuad = shifted.quads[index];
+		if (newQuad == null) {
+			newQuad = shiftQuad(quad, spriteShift, index);
+			shifted.quads[index] = newQuad;
+		}
+		return newQuad;
+	}
+
+	private static BakedQuad shiftQuad(BakedQuad quad, CTSpriteShiftEntry spriteShift, int index) {
+		float uShift = spriteShift.getUShift(index);
+		float vShift = spriteShift.getVShift(index);
+
+		VertexFormat format = quad.getFormat();
+		int[] vertexData = Arrays.copyOf(quad.getVertexData(), quad.getVertexData().length);
+
+		for (int vertex = 0; vertex < vertexData.length; vertex += format.getIntegerSize()) {
+			int uvOffset = format.getUvOffsetById(0) / 4;
+			int uIndex = vertex + uvOffset;
+			int vIndex = vertex + uvOffset + 1;
+			float u = Float.intBitsToFloat(vertexData[uIndex]);
+			float v = Float.intBitsToFloat(vertexData[vIndex]);
+			u += uShift;
+			v += vShift;
+			vertexData[uIndex] = Float.floatToIntBits(u);
+			vertexData[vIndex] = Float.floatToIntBits(v);
+		}
+
+		// The shifted data is complete before the quad is created, so it is safely
+		// published to other chunk builder threads
+		return new BakedQuad(vertexData, quad.getTintIndex(), quad.getFace(), quad.getSprite(),
+				quad.shouldApplyDiffuseLighting(), format);
+	}
+
 }
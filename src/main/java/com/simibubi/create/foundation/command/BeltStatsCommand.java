@@ -0,0 +1,38 @@
+package com.simibubi.create.foundation.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntity;
+
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.world.server.ServerWorld;
+
+public class BeltStatsCommand {
+
+	static ArgumentBuilder<CommandSource, ?> register() {
+		return Commands.literal("beltStats").requires(cs -> cs.hasPermissionLevel(2)).executes(ctx -> {
+			int awake = 0;
+			int sleeping = 0;
+
+			for (ServerWorld world : ctx.getSource().getServer().getWorlds()) {
+				for (TileEntity tileEntity : world.loadedTileEntityList) {
+					if (!(tileEntity instanceof BeltTileEntity))
+						continue;
+					BeltTileEntity belt = (BeltTileEntity) tileEntity;
+					if (!belt.isController())
+						continue;
+					if (belt.isSleeping())
+						sleeping++;
+					else
+						awake++;
+				}
+			}
+
+			ctx.getSource().sendFeedback(
+					new StringTextComponent("Belts: " + awake + " awake, " + sleeping + " sleeping"), false);
+			return 1;
+		});
+	}
+}
@@ -0,0 +1,34 @@
+package com.simibubi.create.foundation.command;
+
+import com.google.common.cache.CacheStats;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.simibubi.create.CreateClient;
+import com.simibubi.create.foundation.utility.SuperByteBufferCache;
+
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.DistExecutor;
+
+public class BufferStatsCommand {
+
+	static ArgumentBuilder<CommandSource, ?> register() {
+		return Commands.literal("bufferStats").requires(cs -> cs.hasPermissionLevel(0)).executes(ctx -> {
+			DistExecutor.runWhenOn(Dist.CLIENT, () -> () -> execute(ctx.getSource()));
+			return 1;
+		});
+	}
+
+	@OnlyIn(Dist.CLIENT)
+	private static void execute(CommandSource source) {
+		CreateClient.bufferCache.getCompartments().forEach((compartment, cache) -> {
+			CacheStats stats = cache.stats();
+			long kilobytes = SuperByteBufferCache.getResidentBytes(cache) / 1024;
+			source.sendFeedback(new StringTextComponent(compartment.getName() + ": " + cache.size() + " buffers, "
+					+ kilobytes + " KB, " + stats.hitCount() + " hits, " + stats.missCount() + " misses, "
+					+ stats.evictionCount() + " evictions"), false);
+		});
+	}
+}
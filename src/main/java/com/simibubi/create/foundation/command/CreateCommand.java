@@ -11,6 +11,9 @@ public class CreateCommand {
 		dispatcher.register(Commands.literal("create")
 				.then(ToggleDebugCommand.register())
 				.then(ClearBufferCacheCommand.register())
+				.then(BufferStatsCommand.register())
+				.then(KineticStatsCommand.register())
+				.then(BeltStatsCommand.register())
 				//.then(KillTPSCommand.register()) //Commented out for release
 				);
 	}
@@ -0,0 +1,30 @@
+package com.simibubi.create.foundation.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.simibubi.create.Create;
+import com.simibubi.create.modules.contraptions.KineticPropagationQueue;
+
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.util.text.StringTextComponent;
+
+public class KineticStatsCommand {
+
+	static ArgumentBuilder<CommandSource, ?> register() {
+		return Commands.literal("kineticStats").requires(cs -> cs.hasPermissionLevel(2)).executes(ctx -> {
+			long requested = 0;
+			long merged = 0;
+			long propagated = 0;
+
+			for (KineticPropagationQueue queue : Create.torquePropagator.getQueues().values()) {
+				requested += queue.getRequested();
+				merged += queue.getMerged();
+				propagated += queue.getPropagated();
+			}
+
+			ctx.getSource().sendFeedback(new StringTextComponent("Kinetic propagation: " + requested
+					+ " requested, " + merged + " merged, " + propagated + " propagated"), false);
+			return 1;
+		});
+	}
+}
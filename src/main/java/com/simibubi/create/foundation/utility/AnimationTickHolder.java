@@ -5,11 +5,20 @@ import net.minecraft.client.Minecraft;
 public class AnimationTickHolder {
 
 	public static int ticks;
+	private static int frames;
 
 	public static void tick() {
 		ticks++;
 	}
 
+	public static void frame() {
+		frames++;
+	}
+
+	public static int getFrame() {
+		return frames;
+	}
+
 	public static float getRenderTick() {
 		return ticks + Minecraft.getInstance().getRenderPartialTicks();
 	}
@@ -1,11 +1,16 @@
 package com.simibubi.create.foundation.utility;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.vecmath.Matrix4f;
 
+import org.lwjgl.system.MemoryUtil;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import net.minecraft.client.renderer.BufferBuilder;
-import net.minecraft.client.renderer.GLAllocation;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.util.Direction.Axis;
@@ -23,6 +28,19 @@ public class SuperByteBuffer {
 	// Vertex Position
 	private Matrix4f transforms;
 	private Matrix4f t;
+	private int vertexCount;
+	private float[] positions;
+
+	// Output of the position transform, shared since buffers are only built on
+	// the render thread
+	private static float[] transformed = new float[0];
+
+	// Transformed positions of templated builds, by key for the current frame
+	private static final int MAX_TEMPLATES = 64;
+	private Long2IntMap templateSlots;
+	private List<float[]> templates;
+	private int templateFrame;
+	private boolean grown;
 
 	// Vertex Texture Coords
 	private boolean shouldShiftUV;
@@ -37,41 +55,74 @@ public class SuperByteBuffer {
 	// Vertex Coloring
 	private boolean shouldColor;
 	private int r, g, b, a;
+	private int writtenColor;
 
 	public SuperByteBuffer(ByteBuffer original) {
 		original.rewind();
-		this.original = original;
+		int size = original.limit();
 
-		this.mutable = GLAllocation.createDirectByteBuffer(original.capacity());
-		this.mutable.order(original.order());
-		this.mutable.limit(original.limit());
+		// Both copies are freed explicitly once the buffer leaves its cache
+		this.original = MemoryUtil.memAlloc(Math.max(size, 1)).order(original.order());
+		this.original.put(original);
+		this.original.flip();
+
+		this.mutable = MemoryUtil.memAlloc(Math.max(size, 1)).order(original.order());
 		mutable.put(this.original);
-		mutable.rewind();
+		mutable.flip();
+		this.original.rewind();
+
+		vertexCount = vertexCount(original);
+		positions = new float[vertexCount * 3];
+		for (int vertex = 0, i = 0; vertex < vertexCount; vertex++, i += 3) {
+			positions[i] = getX(original, vertex);
+			positions[i + 1] = getY(original, vertex);
+			positions[i + 2] = getZ(original, vertex);
+		}
 
 		t = new Matrix4f();
 		transforms = new Matrix4f();
 		transforms.setIdentity();
+		writtenColor = -1;
 	}
 
 	public ByteBuffer build() {
-		original.rewind();
-		mutable.rewind();
-		float x, y, z = 0;
-		float x2, y2, z2 = 0;
+		transformPositions();
+		return writeVertices(transformed, 0, 0, 0);
+	}
+
+	private void transformPositions() {
+		float[] positions = this.positions;
+		if (transformed.length < positions.length)
+			transformed = new float[positions.length];
+		float[] transformed = SuperByteBuffer.transformed;
 
 		Matrix4f t = transforms;
-		for (int vertex = 0; vertex < vertexCount(original); vertex++) {
-			x = getX(original, vertex);
-			y = getY(original, vertex);
-			z = getZ(original, vertex);
+		float m00 = t.m00, m01 = t.m01, m02 = t.m02, m03 = t.m03;
+		float m10 = t.m10, m11 = t.m11, m12 = t.m12, m13 = t.m13;
+		float m20 = t.m20, m21 = t.m21, m22 = t.m22, m23 = t.m23;
+
+		// Plain array loop, so the JIT is free to unroll and vectorise it
+		for (int i = 0; i < positions.length; i += 3) {
+			float x = positions[i];
+			float y = positions[i + 1];
+			float z = positions[i + 2];
+			transformed[i] = m00 * x + m01 * y + m02 * z + m03;
+			transformed[i + 1] = m10 * x + m11 * y + m12 * z + m13;
+			transformed[i + 2] = m20 * x + m21 * y + m22 * z + m23;
+		}
+	}
 
-			x2 = t.m00 * x + t.m01 * y + t.m02 * z + t.m03;
-			y2 = t.m10 * x + t.m11 * y + t.m12 * z + t.m13;
-			z2 = t.m20 * x + t.m21 * y + t.m22 * z + t.m23;
+	private ByteBuffer writeVertices(float[] positions, float x, float y, float z) {
+		original.rewind();
+		mutable.rewind();
 
-			putPos(mutable, vertex, x2, y2, z2);
+		for (int vertex = 0, i = 0; vertex < vertexCount; vertex++, i += 3)
+			putPos(mutable, vertex, positions[i] + x, positions[i + 1] + y, positions[i + 2] + z);
 
-			if (shouldColor) {
+		// Colours stay in the output between builds, so equal ones are not written again
+		int color = r << 16 | g << 8 | b;
+		if (shouldColor && color != writtenColor) {
+			for (int vertex = 0; vertex < vertexCount; vertex++) {
 				byte lumByte = getR(original, vertex);
 				float lum = (lumByte < 0 ? 255 + lumByte : lumByte) / 256f;
 				int r2 = (int) (r * lum);
@@ -79,24 +130,119 @@ public class SuperByteBuffer {
 				int b2 = (int) (b * lum);
 				putColor(mutable, vertex, (byte) r2, (byte) g2, (byte) b2, (byte) a);
 			}
+			writtenColor = color;
+		}
 
-			if (shouldShiftUV)
+		if (shouldShiftUV)
+			for (int vertex = 0; vertex < vertexCount; vertex++)
 				putUV(mutable, vertex, getU(original, vertex) + uShift, getV(original, vertex) + vShift);
 
-			if (shouldLight) {
-				if (vertexLighter != null)
-					putLight(mutable, vertex,
-							vertexLighter.getPackedLight(x2 + lightOffsetX, y2 + lightOffsetY, z2 + lightOffsetZ));
-				else
+		if (shouldLight) {
+			if (vertexLighter != null) {
+				float offsetX = x + lightOffsetX, offsetY = y + lightOffsetY, offsetZ = z + lightOffsetZ;
+				for (int vertex = 0, i = 0; vertex < vertexCount; vertex++, i += 3)
+					putLight(mutable, vertex, vertexLighter.getPackedLight(positions[i] + offsetX,
+							positions[i + 1] + offsetY, positions[i + 2] + offsetZ));
+			} else {
+				for (int vertex = 0; vertex < vertexCount; vertex++)
 					putLight(mutable, vertex, packedLightCoords);
 			}
 		}
 
-		t.setIdentity();
+		resetTransforms();
+		return mutable;
+	}
+
+	/**
+	 * @return whether {@link #buildTemplate} can reuse the positions transformed
+	 *         for the given key during this frame, so transforms do not need to be
+	 *         applied again
+	 */
+	public boolean hasTemplate(long key) {
+		return templates != null && templateFrame == AnimationTickHolder.getFrame() && templateSlots.containsKey(key);
+	}
+
+	/**
+	 * Builds like {@link #build()} and keeps the transformed positions as a
+	 * template for the given key until the end of the frame. While the same key
+	 * is passed again, pending transforms are dropped and the template is only
+	 * moved by the given offset. Colour, texture shift and light still apply.
+	 * Keys beyond the first {@link #MAX_TEMPLATES} of a frame are built without a
+	 * template.
+	 */
+	public ByteBuffer buildTemplate(long key, float x, float y, float z) {
+		if (templates == null) {
+			templateSlots = new Long2IntOpenHashMap();
+			templateSlots.defaultReturnValue(-1);
+			templates = new ArrayList<>();
+		}
+
+		int frame = AnimationTickHolder.getFrame();
+		if (templateFrame != frame) {
+			templateSlots.clear();
+			templateFrame = frame;
+		}
+
+		int slot = templateSlots.get(key);
+		if (slot != -1)
+			return writeVertices(templates.get(slot), x, y, z);
+
+		transformPositions();
+		slot = templateSlots.size();
+		if (slot >= MAX_TEMPLATES)
+			return writeVertices(transformed, x, y, z);
+
+		// Template arrays are kept for later frames and counted by getSize
+		if (slot == templates.size()) {
+			templates.add(new float[positions.length]);
+			grown = true;
+		}
+		float[] template = templates.get(slot);
+		System.arraycopy(transformed, 0, template, 0, positions.length);
+		templateSlots.put(key, slot);
+		return writeVertices(template, x, y, z);
+	}
+
+	private void resetTransforms() {
+		transforms.setIdentity();
 		shouldShiftUV = false;
 		shouldColor = false;
 		shouldLight = false;
-		return mutable;
+	}
+
+	/**
+	 * @return the memory held by this buffer in bytes
+	 */
+	public int getSize() {
+		int templateCount = templates == null ? 0 : templates.size();
+		return original.limit() * 2 + positions.length * 4 * (1 + templateCount);
+	}
+
+	/**
+	 * @return whether this buffer took up more memory since it was last weighed
+	 */
+	public boolean hasGrown() {
+		return grown;
+	}
+
+	/**
+	 * @return the memory held by this buffer in bytes, remembering it as weighed
+	 */
+	public int weigh() {
+		grown = false;
+		return getSize();
+	}
+
+	/**
+	 * Frees the native memory of this buffer. It must not be used afterwards.
+	 */
+	public void delete() {
+		if (original == null)
+			return;
+		MemoryUtil.memFree(original);
+		MemoryUtil.memFree(mutable);
+		original = null;
+		mutable = null;
 	}
 
 	public void renderInto(BufferBuilder buffer) {
@@ -1,9 +1,13 @@
 package com.simibubi.create.foundation.utility;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Random;
-import java.util.concurrent.ExecutionException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -11,7 +15,11 @@ import org.lwjgl.opengl.GL11;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
 import com.simibubi.create.AllBlockPartials;
+import com.simibubi.create.Create;
+import com.simibubi.create.config.AllConfigs;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
@@ -26,15 +34,34 @@ import net.minecraftforge.client.model.data.EmptyModelData;
 public class SuperByteBufferCache {
 
 	public static class Compartment<T> {
+
+		private String name;
+
+		public Compartment(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
 	}
 
-	public static final Compartment<BlockState> GENERIC_TILE = new Compartment<>();
-	public static final Compartment<AllBlockPartials> PARTIAL = new Compartment<>();
+	public static final Compartment<BlockState> GENERIC_TILE = new Compartment<>("generic");
+	public static final Compartment<AllBlockPartials> PARTIAL = new Compartment<>("partial");
 
 	Map<Compartment<?>, Cache<Object, SuperByteBuffer>> cache;
+	Map<Compartment<?>, Supplier<Cache<Object, SuperByteBuffer>>> cacheFactories;
+	Map<Compartment<?>, Long> maxBytes;
+	Set<Compartment<?>> warnedOversized;
+	Queue<SuperByteBuffer> removedBuffers;
 
 	public SuperByteBufferCache() {
-		cache = new HashMap<>();
+		cache = new LinkedHashMap<>();
+		cacheFactories = new HashMap<>();
+		maxBytes = new HashMap<>();
+		warnedOversized = new HashSet<>();
+		removedBuffers = new ConcurrentLinkedQueue<>();
 		registerCompartment(GENERIC_TILE);
 		registerCompartment(PARTIAL);
 	}
@@ -55,23 +82,95 @@ public class SuperByteBufferCache {
 		return get(GENERIC_TILE, key, supplier);
 	}
 
+	/**
+	 * Buffers larger than their whole compartment are not cached. They are built
+	 * again on every request and freed on the next tick.
+	 */
 	public <T> SuperByteBuffer get(Compartment<T> compartment, T key, Supplier<SuperByteBuffer> supplier) {
 		Cache<Object, SuperByteBuffer> compartmentCache = this.cache.get(compartment);
-		try {
-			return compartmentCache.get(key, supplier::get);
-		} catch (ExecutionException e) {
-			e.printStackTrace();
-			return null;
+		SuperByteBuffer buffer = compartmentCache.getIfPresent(key);
+		if (buffer != null)
+			return buffer;
+
+		buffer = supplier.get();
+		if (buffer.getSize() > maxBytes.get(compartment)) {
+			if (warnedOversized.add(compartment))
+				Create.logger.warn("A render buffer of " + buffer.getSize() / 1024 + "KB does not fit into the "
+						+ compartment.getName() + " buffer cache and is rebuilt every frame. "
+						+ "Consider raising the cache size in the client config.");
+			removedBuffers.add(buffer);
+			return buffer;
 		}
+
+		compartmentCache.put(key, buffer);
+		return buffer;
 	}
 
 	public void registerCompartment(Compartment<?> instance) {
-		cache.put(instance, CacheBuilder.newBuilder().build());
+		registerCompartment(instance, 0);
 	}
 
 	public void registerCompartment(Compartment<?> instance, long ticksTillExpired) {
-		cache.put(instance,
-				CacheBuilder.newBuilder().expireAfterAccess(ticksTillExpired * 50, TimeUnit.MILLISECONDS).build());
+		registerCompartment(instance, ticksTillExpired, AllConfigs.CLIENT.tileBufferCacheSize::get);
+	}
+
+	/**
+	 * @param maxKilobytes the memory buffers of this compartment may take up
+	 *                     before the least recently used ones are dropped. Read
+	 *                     again whenever the cache is invalidated.
+	 */
+	public void registerCompartment(Compartment<?> instance, long ticksTillExpired, Supplier<Integer> maxKilobytes) {
+		Supplier<Cache<Object, SuperByteBuffer>> factory = () -> {
+			CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats();
+			if (ticksTillExpired > 0)
+				builder.expireAfterAccess(ticksTillExpired * 50, TimeUnit.MILLISECONDS);
+			long bytes = maxKilobytes.get() * 1024L;
+			maxBytes.put(instance, bytes);
+
+			// A single segment, so any buffer up to the full size can be kept
+			return builder.concurrencyLevel(1)
+					.maximumWeight(bytes)
+					.weigher((Object key, SuperByteBuffer buffer) -> buffer.weigh())
+					.removalListener((RemovalNotification<Object, SuperByteBuffer> notification) -> {
+						// Buffers are only replaced by themselves to be weighed again
+						if (notification.getCause() == RemovalCause.REPLACED)
+							return;
+						if (notification.getValue() != null)
+							removedBuffers.add(notification.getValue());
+					}).build();
+		};
+		cacheFactories.put(instance, factory);
+		cache.put(instance, factory.get());
+	}
+
+	/**
+	 * Weighs buffers that grew since they were cached again and frees the buffers
+	 * dropped from the caches since the last tick. Buffers handed out during a
+	 * frame stay valid until the next client tick, even if they got evicted in the
+	 * meantime.
+	 */
+	public void tick() {
+		cache.values().forEach(compartmentCache -> {
+			compartmentCache.asMap().forEach((key, buffer) -> {
+				if (buffer.hasGrown())
+					compartmentCache.asMap().replace(key, buffer, buffer);
+			});
+			compartmentCache.cleanUp();
+		});
+		SuperByteBuffer buffer;
+		while ((buffer = removedBuffers.poll()) != null)
+			buffer.delete();
+	}
+
+	public Map<Compartment<?>, Cache<Object, SuperByteBuffer>> getCompartments() {
+		return cache;
+	}
+
+	public static long getResidentBytes(Cache<Object, SuperByteBuffer> compartmentCache) {
+		long bytes = 0;
+		for (SuperByteBuffer buffer : compartmentCache.asMap().values())
+			bytes += buffer.getSize();
+		return bytes;
 	}
 
 	private SuperByteBuffer standardBlockRender(BlockState renderedState) {
@@ -98,6 +197,8 @@ public class SuperByteBufferCache {
 		cache.forEach((comp, cache) -> {
 			cache.invalidateAll();
 		});
+		warnedOversized.clear();
+		cacheFactories.forEach((comp, factory) -> cache.put(comp, factory.get()));
 	}
 
 }
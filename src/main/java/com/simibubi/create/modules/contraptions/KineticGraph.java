@@ -0,0 +1,160 @@
+package com.simibubi.create.modules.contraptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntity;
+import com.simibubi.create.modules.contraptions.relays.encased.AdjustablePulleyTileEntity;
+import com.simibubi.create.modules.contraptions.relays.encased.DirectionalShaftHalvesTileEntity;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Per-world cache of the connections between kinetic blocks. Nodes remember
+ * which of their neighbours are connected and, where the ratio only depends on
+ * the block states involved, the speed modifier in both directions. A node is
+ * thrown away whenever a block in its vicinity is added, removed or changes its
+ * state.
+ */
+public class KineticGraph {
+
+	private Map<BlockPos, Node> nodes;
+
+	public KineticGraph() {
+		nodes = new HashMap<>();
+	}
+
+	public List<KineticTileEntity> getConnectedNeighbours(KineticTileEntity te) {
+		World world = te.getWorld();
+		BlockPos pos = te.getPos();
+		if (!world.isAreaLoaded(pos, 1))
+			return new ArrayList<>();
+
+		Node node = nodes.get(pos);
+		if (node == null || node.state != te.getBlockState())
+			node = rebuild(te);
+
+		List<KineticTileEntity> neighbours = collect(te, node);
+		if (neighbours == null)
+			neighbours = collect(te, rebuild(te));
+		return neighbours == null ? new ArrayList<>() : neighbours;
+	}
+
+	public float getRotationSpeedModifier(KineticTileEntity from, KineticTileEntity to) {
+		Edge edge = findStaticEdge(from, to);
+		if (edge != null)
+			return edge.modifier;
+		edge = findStaticEdge(to, from);
+		if (edge != null)
+			return edge.reverseModifier;
+		return RotationPropagator.computeRotationSpeedModifier(from, to);
+	}
+
+	/**
+	 * Drop all nodes that could be connected to the given position.
+	 *
+	 * @param pos
+	 */
+	public void invalidate(BlockPos pos) {
+		for (int x = -1; x <= 1; x++)
+			for (int y = -1; y <= 1; y++)
+				for (int z = -1; z <= 1; z++)
+					nodes.remove(pos.add(x, y, z));
+	}
+
+	public int getSize() {
+		return nodes.size();
+	}
+
+	private Edge findStaticEdge(KineticTileEntity from, KineticTileEntity to) {
+		Node node = nodes.get(from.getPos());
+		if (node == null || node.state != from.getBlockState())
+			return null;
+		BlockPos toPos = to.getPos();
+		for (Edge edge : node.edges) {
+			if (!edge.pos.equals(toPos))
+				continue;
+			if (edge.dynamic || edge.state != to.getBlockState())
+				return null;
+			return edge;
+		}
+		return null;
+	}
+
+	private List<KineticTileEntity> collect(KineticTileEntity te, Node node) {
+		World world = te.getWorld();
+		List<KineticTileEntity> neighbours = new ArrayList<>(node.edges.size());
+		for (Edge edge : node.edges) {
+			TileEntity tileEntity = world.getTileEntity(edge.pos);
+			if (!(tileEntity instanceof KineticTileEntity) || tileEntity.getBlockState() != edge.state)
+				return null;
+			KineticTileEntity neighbourTE = (KineticTileEntity) tileEntity;
+			if (edge.dynamic && !RotationPropagator.isConnected(te, neighbourTE))
+				continue;
+			neighbours.add(neighbourTE);
+		}
+		return neighbours;
+	}
+
+	private Node rebuild(KineticTileEntity te) {
+		Node node = new Node(te.getBlockState());
+		for (BlockPos neighbourPos : RotationPropagator.getPotentialNeighbourLocations(te)) {
+			KineticTileEntity neighbourTE = RotationPropagator.getKineticNeighbour(te, neighbourPos);
+			if (neighbourTE == null)
+				continue;
+
+			boolean dynamic = isDynamic(te) || isDynamic(neighbourTE);
+			if (!dynamic && !RotationPropagator.isConnected(te, neighbourTE))
+				continue;
+
+			Edge edge = new Edge(neighbourPos, neighbourTE.getBlockState(), dynamic);
+			if (!dynamic) {
+				edge.modifier = RotationPropagator.computeRotationSpeedModifier(te, neighbourTE);
+				edge.reverseModifier = RotationPropagator.computeRotationSpeedModifier(neighbourTE, te);
+			}
+			node.edges.add(edge);
+		}
+		nodes.put(te.getPos(), node);
+		return node;
+	}
+
+	/**
+	 * Connections of these entities depend on data that is not part of their block
+	 * state, so they have to be re-evaluated each time.
+	 */
+	private static boolean isDynamic(KineticTileEntity te) {
+		return te instanceof BeltTileEntity || te instanceof DirectionalShaftHalvesTileEntity
+				|| te instanceof AdjustablePulleyTileEntity;
+	}
+
+	private static class Node {
+		BlockState state;
+		List<Edge> edges;
+
+		Node(BlockState state) {
+			this.state = state;
+			edges = new ArrayList<>();
+		}
+	}
+
+	private static class Edge {
+		BlockPos pos;
+		BlockState state;
+		boolean dynamic;
+		float modifier;
+		float reverseModifier;
+
+		Edge(BlockPos pos, BlockState state, boolean dynamic) {
+			this.pos = pos;
+			this.state = state;
+			this.dynamic = dynamic;
+		}
+	}
+
+}
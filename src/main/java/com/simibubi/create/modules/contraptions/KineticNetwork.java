@@ -1,27 +1,51 @@
 package com.simibubi.create.modules.contraptions;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.Arrays;
 
+import com.simibubi.create.modules.contraptions.base.IRotate.StressImpact;
 import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
 
+/**
+ * Members are kept in dense parallel arrays. Every member remembers its slot in
+ * {@link KineticTileEntity#networkSlot}, removals move the last member into the
+ * freed slot. Members observing the network's stress are also kept in a
+ * separate dense array the same way, using {@link KineticTileEntity#observerSlot}.
+ */
 public class KineticNetwork {
 
-	public Long id;
+	private static final int INITIAL_CAPACITY = 16;
+
+	public long id;
 	public boolean initialized;
-	public Map<KineticTileEntity, Float> sources;
-	public Map<KineticTileEntity, Float> members;
+
+	private KineticTileEntity[] members;
+	private boolean[] sources;
+	private float[] capacities;
+	private float[] stresses;
+	private float[] appliedCapacities;
+	private float[] appliedStresses;
+	private int memberCount;
+	private KineticTileEntity[] observers;
+	private int observerCount;
 
 	private float currentCapacity;
 	private float currentStress;
+	private boolean overStressed;
+
+	private double presentCapacity;
+	private double presentStress;
 	private float unloadedCapacity;
 	private float unloadedStress;
 	private int unloadedMembers;
 
 	public KineticNetwork() {
-		sources = new HashMap<>();
-		members = new HashMap<>();
+		members = new KineticTileEntity[INITIAL_CAPACITY];
+		sources = new boolean[INITIAL_CAPACITY];
+		capacities = new float[INITIAL_CAPACITY];
+		stresses = new float[INITIAL_CAPACITY];
+		appliedCapacities = new float[INITIAL_CAPACITY];
+		appliedStresses = new float[INITIAL_CAPACITY];
+		observers = new KineticTileEntity[INITIAL_CAPACITY];
 	}
 
 	public void initFromTE(float maxStress, float currentStress, int members) {
@@ -29,22 +53,23 @@ public class KineticNetwork {
 		unloadedStress = currentStress;
 		unloadedMembers = members;
 		initialized = true;
-		updateStress();
-		updateCapacity();
+		updateNetwork();
 	}
 
 	public void addSilently(KineticTileEntity te, float lastCapacity, float lastStress) {
-		if (members.containsKey(te))
+		if (contains(te))
 			return;
+		int slot = allocate(te);
+
 		if (te.isSource()) {
 			unloadedCapacity -= lastCapacity * getStressMultiplierForSpeed(te.getGeneratedSpeed());
-			float addedStressCapacity = te.getAddedStressCapacity();
-			sources.put(te, addedStressCapacity);
+			sources[slot] = true;
+			capacities[slot] = te.getAddedStressCapacity();
 		}
 
 		unloadedStress -= lastStress * getStressMultiplierForSpeed(te.getTheoreticalSpeed());
-		float stressApplied = te.getStressApplied();
-		members.put(te, stressApplied);
+		stresses[slot] = te.getStressApplied();
+		apply(slot);
 
 		unloadedMembers--;
 		if (unloadedMembers < 0)
@@ -56,114 +81,241 @@ public class KineticNetwork {
 	}
 
 	public void add(KineticTileEntity te) {
-		if (members.containsKey(te))
+		if (contains(te))
 			return;
-		if (te.isSource())
-			sources.put(te, te.getAddedStressCapacity());
-		members.put(te, te.getStressApplied());
+		int slot = allocate(te);
+
+		if (te.isSource()) {
+			sources[slot] = true;
+			capacities[slot] = te.getAddedStressCapacity();
+		}
+		stresses[slot] = te.getStressApplied();
+		apply(slot);
+
 		te.updateFromNetwork(currentCapacity, currentStress, getSize());
 		te.networkDirty = true;
 	}
 
 	public void updateCapacityFor(KineticTileEntity te, float capacity) {
-		sources.put(te, capacity);
-		updateCapacity();
+		if (!contains(te))
+			return;
+		int slot = te.networkSlot;
+		sources[slot] = true;
+		capacities[slot] = capacity;
+		apply(slot);
+		updateNetwork();
 	}
 
 	public void updateStressFor(KineticTileEntity te, float stress) {
-		members.put(te, stress);
-		updateStress();
+		if (!contains(te))
+			return;
+		int slot = te.networkSlot;
+		stresses[slot] = stress;
+		apply(slot);
+		updateNetwork();
+	}
+
+	/**
+	 * Re-evaluates the contribution of a member after its speed changed. The
+	 * network itself is updated once the member is ticked.
+	 */
+	public void updateSpeedFor(KineticTileEntity te) {
+		if (!contains(te))
+			return;
+		if (apply(te.networkSlot))
+			te.networkDirty = true;
 	}
 
 	public void remove(KineticTileEntity te) {
-		if (!members.containsKey(te))
+		if (!contains(te))
 			return;
-		if (te.isSource())
-			sources.remove(te);
-		members.remove(te);
+		release(te.networkSlot);
 		te.updateFromNetwork(0, 0, 0);
 
-		if (members.isEmpty()) {
-			TorquePropagator.networks.get(te.getWorld()).remove(this.id);
+		if (memberCount == 0) {
+			TorquePropagator.networks.get(te.getWorld()).remove(id);
 			return;
 		}
 
-		members.keySet().stream().findFirst().map(member -> member.networkDirty = true);
+		members[0].networkDirty = true;
+	}
+
+	/**
+	 * Keeps the contribution of a member whose chunk is being unloaded, so the
+	 * network stays consistent until it gets loaded again.
+	 */
+	public void unload(KineticTileEntity te) {
+		if (!contains(te))
+			return;
+		int slot = te.networkSlot;
+		unloadedCapacity += appliedCapacities[slot];
+		unloadedStress += appliedStresses[slot];
+		unloadedMembers++;
+		release(slot);
+
+		if (memberCount == 0)
+			TorquePropagator.networks.get(te.getWorld()).remove(id);
+	}
+
+	public boolean contains(KineticTileEntity te) {
+		int slot = te.networkSlot;
+		return slot >= 0 && slot < memberCount && members[slot] == te;
 	}
 
 	public void sync() {
-		for (KineticTileEntity te : members.keySet())
-			te.updateFromNetwork(currentCapacity, currentStress, getSize());
+		for (int i = 0; i < memberCount; i++)
+			members[i].updateFromNetwork(currentCapacity, currentStress, getSize());
 	}
 
 	public void updateCapacity() {
-		float newMaxStress = calculateCapacity();
-		if (currentCapacity != newMaxStress) {
-			currentCapacity = newMaxStress;
-			sync();
-		}
+		updateNetwork();
 	}
 
 	public void updateStress() {
-		float newStress = calculateStress();
-		if (currentStress != newStress) {
-			currentStress = newStress;
-			sync();
-		}
+		updateNetwork();
 	}
 
+	/**
+	 * Pushes the current totals to the members. Everyone is only notified when the
+	 * network becomes or stops being overstressed, otherwise just the members
+	 * displaying the network's stress are kept up to date.
+	 */
 	public void updateNetwork() {
 		float newStress = calculateStress();
 		float newMaxStress = calculateCapacity();
-		if (currentStress != newStress || currentCapacity != newMaxStress) {
-			currentStress = newStress;
-			currentCapacity = newMaxStress;
+		if (currentStress == newStress && currentCapacity == newMaxStress)
+			return;
+
+		currentStress = newStress;
+		currentCapacity = newMaxStress;
+
+		boolean nowOverStressed = currentCapacity < currentStress && StressImpact.isEnabled();
+		if (nowOverStressed != overStressed) {
+			overStressed = nowOverStressed;
 			sync();
+			return;
 		}
+
+		for (int i = 0; i < observerCount; i++)
+			observers[i].updateFromNetwork(currentCapacity, currentStress, getSize());
 	}
 
 	public float calculateCapacity() {
-		float presentCapacity = 0;
-		for (Iterator<KineticTileEntity> iterator = sources.keySet().iterator(); iterator.hasNext();) {
-			KineticTileEntity te = iterator.next();
-			if (te.getWorld().getTileEntity(te.getPos()) != te) {
-				iterator.remove();
-				continue;
-			}
-			presentCapacity += getActualCapacityOf(te);
-		}
-		float newMaxStress = presentCapacity + unloadedCapacity;
-		return newMaxStress;
+		if (memberCount == 0)
+			presentCapacity = 0;
+		return (float) presentCapacity + unloadedCapacity;
 	}
 
 	public float calculateStress() {
-		float presentStress = 0;
-		for (Iterator<KineticTileEntity> iterator = members.keySet().iterator(); iterator.hasNext();) {
-			KineticTileEntity te = iterator.next();
-			if (te.getWorld().getTileEntity(te.getPos()) != te) {
-				iterator.remove();
-				continue;
-			}
-			presentStress += getActualStressOf(te);
-		}
-		float newStress = presentStress + unloadedStress;
-		return newStress;
+		if (memberCount == 0)
+			presentStress = 0;
+		return (float) presentStress + unloadedStress;
 	}
 
 	public float getActualCapacityOf(KineticTileEntity te) {
-		return sources.get(te) * getStressMultiplierForSpeed(te.getGeneratedSpeed());
+		return contains(te) ? appliedCapacities[te.networkSlot] : 0;
 	}
 
 	public float getActualStressOf(KineticTileEntity te) {
-		return members.get(te) * getStressMultiplierForSpeed(te.getTheoreticalSpeed());
+		return contains(te) ? appliedStresses[te.networkSlot] : 0;
 	}
 
-	private static float getStressMultiplierForSpeed(float speed) {
-		return Math.abs(speed);
+	public float getCurrentCapacity() {
+		return currentCapacity;
+	}
+
+	public float getCurrentStress() {
+		return currentStress;
 	}
 
 	public int getSize() {
-		return unloadedMembers + members.size();
+		return unloadedMembers + memberCount;
+	}
+
+	private int allocate(KineticTileEntity te) {
+		if (memberCount == members.length) {
+			int length = members.length * 2;
+			members = Arrays.copyOf(members, length);
+			sources = Arrays.copyOf(sources, length);
+			capacities = Arrays.copyOf(capacities, length);
+			stresses = Arrays.copyOf(stresses, length);
+			appliedCapacities = Arrays.copyOf(appliedCapacities, length);
+			appliedStresses = Arrays.copyOf(appliedStresses, length);
+		}
+
+		int slot = memberCount++;
+		members[slot] = te;
+		sources[slot] = false;
+		capacities[slot] = 0;
+		stresses[slot] = 0;
+		appliedCapacities[slot] = 0;
+		appliedStresses[slot] = 0;
+		te.networkSlot = slot;
+
+		if (te.observesNetworkStress()) {
+			if (observerCount == observers.length)
+				observers = Arrays.copyOf(observers, observers.length * 2);
+			observers[observerCount] = te;
+			te.observerSlot = observerCount++;
+		}
+		return slot;
+	}
+
+	private void release(int slot) {
+		presentCapacity -= appliedCapacities[slot];
+		presentStress -= appliedStresses[slot];
+		releaseObserver(members[slot]);
+		members[slot].networkSlot = -1;
+
+		int last = --memberCount;
+		if (slot != last) {
+			members[slot] = members[last];
+			sources[slot] = sources[last];
+			capacities[slot] = capacities[last];
+			stresses[slot] = stresses[last];
+			appliedCapacities[slot] = appliedCapacities[last];
+			appliedStresses[slot] = appliedStresses[last];
+			members[slot].networkSlot = slot;
+		}
+		members[last] = null;
+	}
+
+	private void releaseObserver(KineticTileEntity te) {
+		int slot = te.observerSlot;
+		if (slot < 0 || slot >= observerCount || observers[slot] != te)
+			return;
+		te.observerSlot = -1;
+
+		int last = --observerCount;
+		if (slot != last) {
+			observers[slot] = observers[last];
+			observers[slot].observerSlot = slot;
+		}
+		observers[last] = null;
+	}
+
+	/**
+	 * Recomputes what the member in the given slot adds to the running totals.
+	 *
+	 * @return whether the totals have changed
+	 */
+	private boolean apply(int slot) {
+		KineticTileEntity te = members[slot];
+		float capacity =
+			sources[slot] ? capacities[slot] * getStressMultiplierForSpeed(te.getGeneratedSpeed()) : 0;
+		float stress = stresses[slot] * getStressMultiplierForSpeed(te.getTheoreticalSpeed());
+		if (capacity == appliedCapacities[slot] && stress == appliedStresses[slot])
+			return false;
+
+		presentCapacity += capacity - appliedCapacities[slot];
+		presentStress += stress - appliedStresses[slot];
+		appliedCapacities[slot] = capacity;
+		appliedStresses[slot] = stress;
+		return true;
+	}
+
+	private static float getStressMultiplierForSpeed(float speed) {
+		return Math.abs(speed);
 	}
 
 }
@@ -0,0 +1,129 @@
+package com.simibubi.create.modules.contraptions;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Collects kinetic blocks that were added to or removed from a world during a
+ * tick and propagates them all at once at the end of the server tick. All
+ * requests for a position are collapsed into one net action:
+ * <ul>
+ * <li>an addition of the block that is there at the end of the tick</li>
+ * <li>a removal of the block that was there before the tick</li>
+ * <li>a replacement, running the removal and then the addition</li>
+ * </ul>
+ * A block added and removed again within the tick is not propagated at all.
+ * Additions of blocks that an earlier propagation of the same flush already
+ * walked through are skipped.
+ */
+public class KineticPropagationQueue {
+
+	private Map<BlockPos, Entry> entries;
+	private LongSet reached;
+
+	private long requested;
+	private long merged;
+	private long propagated;
+
+	public KineticPropagationQueue() {
+		entries = new LinkedHashMap<>();
+		reached = new LongOpenHashSet();
+	}
+
+	public void queueAdded(KineticTileEntity te) {
+		requested++;
+		Entry entry = entries.computeIfAbsent(te.getPos(), p -> new Entry());
+		if (entry.added != null)
+			merged++;
+		entry.added = te;
+	}
+
+	public void queueRemoved(KineticTileEntity te) {
+		requested++;
+		BlockPos pos = te.getPos();
+		Entry entry = entries.get(pos);
+		if (entry == null) {
+			entry = new Entry();
+			entry.removed = te;
+			entries.put(pos, entry);
+			return;
+		}
+
+		merged++;
+		if (entry.added == te) {
+			// Added within this tick, so there is nothing to take back from the network
+			entry.added = null;
+			if (entry.removed == null)
+				entries.remove(pos);
+			return;
+		}
+		if (entry.removed == null)
+			entry.removed = te;
+	}
+
+	public void flush() {
+		reached.clear();
+
+		// Propagations can queue further changes, so entries are taken one at a time
+		while (!entries.isEmpty()) {
+			Iterator<Map.Entry<BlockPos, Entry>> iterator = entries.entrySet().iterator();
+			Map.Entry<BlockPos, Entry> next = iterator.next();
+			iterator.remove();
+
+			BlockPos pos = next.getKey();
+			Entry entry = next.getValue();
+
+			if (entry.removed != null) {
+				propagated++;
+				RotationPropagator.propagateRemoved(entry.removed.getWorld(), pos, entry.removed, reached);
+				// Sources may have been cleared anywhere, earlier walks are no longer conclusive
+				reached.clear();
+			}
+
+			KineticTileEntity te = entry.added;
+			if (te == null)
+				continue;
+			World world = te.getWorld();
+			if (te.isRemoved() || world.getTileEntity(pos) != te || reached.contains(pos.toLong())) {
+				merged++;
+				continue;
+			}
+			propagated++;
+			RotationPropagator.propagateAdded(world, pos, te, reached);
+		}
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	public int getPending() {
+		return entries.size();
+	}
+
+	public long getRequested() {
+		return requested;
+	}
+
+	public long getMerged() {
+		return merged;
+	}
+
+	public long getPropagated() {
+		return propagated;
+	}
+
+	private static class Entry {
+		KineticTileEntity removed;
+		KineticTileEntity added;
+	}
+
+}
@@ -4,10 +4,14 @@ import static com.simibubi.create.AllBlocks.BELT;
 import static com.simibubi.create.AllBlocks.LARGE_COGWHEEL;
 import static net.minecraft.state.properties.BlockStateProperties.AXIS;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 
 import com.simibubi.create.AllBlocks;
+import com.simibubi.create.Create;
 import com.simibubi.create.config.AllConfigs;
 import com.simibubi.create.modules.contraptions.base.IRotate;
 import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
@@ -18,6 +22,7 @@ import com.simibubi.create.modules.contraptions.relays.encased.EncasedBeltBlock;
 import com.simibubi.create.modules.contraptions.relays.encased.SplitShaftTileEntity;
 import com.simibubi.create.modules.contraptions.relays.gearbox.GearboxTileEntity;
 
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.BlockState;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
@@ -39,6 +44,10 @@ public class RotationPropagator {
 	 * @return
 	 */
 	private static float getRotationSpeedModifier(KineticTileEntity from, KineticTileEntity to) {
+		return getGraph(from.getWorld()).getRotationSpeedModifier(from, to);
+	}
+
+	static float computeRotationSpeedModifier(KineticTileEntity from, KineticTileEntity to) {
 		final BlockState stateFrom = from.getBlockState();
 		final BlockState stateTo = to.getBlockState();
 		final IRotate definitionFrom = (IRotate) stateFrom.getBlock();
@@ -185,7 +194,8 @@ public class RotationPropagator {
 	}
 
 	/**
-	 * Insert the added position to the kinetic network.
+	 * Insert the added position to the kinetic network. The propagation is
+	 * deferred to the end of the current server tick.
 	 * 
 	 * @param worldIn
 	 * @param pos
@@ -193,21 +203,45 @@ public class RotationPropagator {
 	public static void handleAdded(World worldIn, BlockPos pos, KineticTileEntity addedTE) {
 		if (worldIn.isRemote || isFrozen())
 			return;
+		if (addedTE == null)
+			return;
+		getGraph(worldIn).invalidate(pos);
+		Create.torquePropagator.getOrCreateQueueFor(worldIn).queueAdded(addedTE);
+	}
+
+	static void propagateAdded(World worldIn, BlockPos pos, KineticTileEntity addedTE, LongSet reached) {
+		if (isFrozen())
+			return;
 		if (!worldIn.isBlockPresent(pos))
 			return;
-		propagateNewSource(addedTE);
+		propagateNewSource(addedTE, reached);
 	}
 
 	/**
 	 * Search for sourceless networks attached to the given entity and update them.
+	 * Walks the network depth-first using an explicit stack, so long chains of
+	 * kinetic blocks cannot overflow the call stack.
 	 * 
-	 * @param currentTE
+	 * @param startTE
+	 * @param reached collects the positions of all blocks whose neighbours were
+	 *                visited
 	 */
-	private static void propagateNewSource(KineticTileEntity currentTE) {
-		BlockPos pos = currentTE.getPos();
-		World world = currentTE.getWorld();
+	private static void propagateNewSource(KineticTileEntity startTE, LongSet reached) {
+		Deque<PropagationFrame> stack = new ArrayDeque<>();
+		stack.push(new PropagationFrame(startTE, reached));
+
+		while (!stack.isEmpty()) {
+			PropagationFrame frame = stack.peek();
+			if (!frame.neighbours.hasNext()) {
+				stack.pop();
+				continue;
+			}
+
+			KineticTileEntity currentTE = frame.te;
+			KineticTileEntity neighbourTE = frame.neighbours.next();
+			BlockPos pos = currentTE.getPos();
+			World world = currentTE.getWorld();
 
-		for (KineticTileEntity neighbourTE : getConnectedNeighbours(currentTE)) {
 			float speedOfCurrent = currentTE.getTheoreticalSpeed();
 			float speedOfNeighbour = neighbourTE.getTheoreticalSpeed();
 			float newSpeed = getConveyedSpeed(currentTE, neighbourTE);
@@ -220,13 +254,15 @@ public class RotationPropagator {
 			boolean speedChangedTooOften = currentTE.getFlickerScore() > MAX_FLICKER_SCORE;
 			if (tooFast || speedChangedTooOften) {
 				world.destroyBlock(pos, true);
-				return;
+				stack.pop();
+				continue;
 			}
 
 			// Opposite directions
 			if (incompatible) {
 				world.destroyBlock(pos, true);
-				return;
+				stack.pop();
+				continue;
 
 				// Same direction: overpower the slower speed
 			} else {
@@ -239,15 +275,16 @@ public class RotationPropagator {
 					currentTE.onSpeedChanged(prevSpeed);
 					currentTE.sendData();
 
-					propagateNewSource(currentTE);
-					return;
+					stack.pop();
+					stack.push(new PropagationFrame(currentTE, reached));
+					continue;
 				}
 
 				// Current faster, overpower the neighbours' tree
 				if (Math.abs(newSpeed) >= Math.abs(speedOfNeighbour)) {
 
 					// Do not overpower you own network -> cycle
-					if (!currentTE.hasNetwork() || currentTE.network.equals(neighbourTE.network)) {
+					if (!currentTE.hasNetwork() || currentTE.network == neighbourTE.network) {
 						if (Math.abs(newSpeed) > Math.abs(speedOfNeighbour))
 							world.destroyBlock(pos, true);
 						continue;
@@ -261,7 +298,7 @@ public class RotationPropagator {
 					neighbourTE.setSpeed(getConveyedSpeed(currentTE, neighbourTE));
 					neighbourTE.onSpeedChanged(prevSpeed);
 					neighbourTE.sendData();
-					propagateNewSource(neighbourTE);
+					stack.push(new PropagationFrame(neighbourTE, reached));
 					continue;
 				}
 			}
@@ -274,13 +311,24 @@ public class RotationPropagator {
 			neighbourTE.setSource(currentTE.getPos());
 			neighbourTE.onSpeedChanged(prevSpeed);
 			neighbourTE.sendData();
-			propagateNewSource(neighbourTE);
+			stack.push(new PropagationFrame(neighbourTE, reached));
+		}
+	}
 
+	private static class PropagationFrame {
+		KineticTileEntity te;
+		Iterator<KineticTileEntity> neighbours;
+
+		PropagationFrame(KineticTileEntity te, LongSet reached) {
+			this.te = te;
+			this.neighbours = getConnectedNeighbours(te).iterator();
+			reached.add(te.getPos().toLong());
 		}
 	}
 
 	/**
-	 * Remove the given entity from the network.
+	 * Remove the given entity from the network. The propagation is deferred to the
+	 * end of the current server tick.
 	 * 
 	 * @param worldIn
 	 * @param pos
@@ -293,6 +341,12 @@ public class RotationPropagator {
 			return;
 		if (removedTE.getTheoreticalSpeed() == 0)
 			return;
+		Create.torquePropagator.getOrCreateQueueFor(worldIn).queueRemoved(removedTE);
+	}
+
+	static void propagateRemoved(World worldIn, BlockPos pos, KineticTileEntity removedTE, LongSet reached) {
+		if (isFrozen())
+			return;
 
 		for (BlockPos neighbourPos : getPotentialNeighbourLocations(removedTE)) {
 			BlockState neighbourState = worldIn.getBlockState(neighbourPos);
@@ -306,7 +360,7 @@ public class RotationPropagator {
 			if (!neighbourTE.hasSource() || !neighbourTE.source.equals(pos))
 				continue;
 
-			propagateMissingSource(neighbourTE);
+			propagateMissingSource(neighbourTE, reached);
 		}
 
 	}
@@ -316,17 +370,18 @@ public class RotationPropagator {
 	 * source
 	 * 
 	 * @param updateTE
+	 * @param reached
 	 */
-	private static void propagateMissingSource(KineticTileEntity updateTE) {
+	private static void propagateMissingSource(KineticTileEntity updateTE, LongSet reached) {
 		final World world = updateTE.getWorld();
 
-		List<KineticTileEntity> potentialNewSources = new LinkedList<>();
-		List<BlockPos> frontier = new LinkedList<>();
+		List<KineticTileEntity> potentialNewSources = new ArrayList<>();
+		Deque<BlockPos> frontier = new ArrayDeque<>();
 		frontier.add(updateTE.getPos());
 		BlockPos missingSource = updateTE.hasSource() ? updateTE.source : null;
 
 		while (!frontier.isEmpty()) {
-			final BlockPos pos = frontier.remove(0);
+			final BlockPos pos = frontier.poll();
 			final KineticTileEntity currentTE = (KineticTileEntity) world.getTileEntity(pos);
 
 			currentTE.removeSource();
@@ -352,13 +407,13 @@ public class RotationPropagator {
 
 		for (KineticTileEntity newSource : potentialNewSources) {
 			if (newSource.hasSource() || newSource.isSource()) {
-				propagateNewSource(newSource);
+				propagateNewSource(newSource, reached);
 				return;
 			}
 		}
 	}
 
-	private static KineticTileEntity findConnectedNeighbour(KineticTileEntity currentTE, BlockPos neighbourPos) {
+	static KineticTileEntity getKineticNeighbour(KineticTileEntity currentTE, BlockPos neighbourPos) {
 		BlockState neighbourState = currentTE.getWorld().getBlockState(neighbourPos);
 		if (!(neighbourState.getBlock() instanceof IRotate))
 			return null;
@@ -370,8 +425,6 @@ public class RotationPropagator {
 		KineticTileEntity neighbourKTE = (KineticTileEntity) neighbourTE;
 		if (!(neighbourKTE.getBlockState().getBlock() instanceof IRotate))
 			return null;
-		if (!isConnected(currentTE, neighbourKTE))
-			return null;
 		return neighbourKTE;
 	}
 
@@ -384,23 +437,19 @@ public class RotationPropagator {
 			return true;
 		if (isLargeGearToSpeedController(stateTo, stateFrom, diff))
 			return true;
-		return getRotationSpeedModifier(from, to) != 0;
+		return computeRotationSpeedModifier(from, to) != 0;
 	}
 
 	private static List<KineticTileEntity> getConnectedNeighbours(KineticTileEntity te) {
-		List<KineticTileEntity> neighbours = new LinkedList<>();
-		for (BlockPos neighbourPos : getPotentialNeighbourLocations(te)) {
-			final KineticTileEntity neighbourTE = findConnectedNeighbour(te, neighbourPos);
-			if (neighbourTE == null)
-				continue;
+		return getGraph(te.getWorld()).getConnectedNeighbours(te);
+	}
 
-			neighbours.add(neighbourTE);
-		}
-		return neighbours;
+	private static KineticGraph getGraph(World world) {
+		return Create.torquePropagator.getOrCreateGraphFor(world);
 	}
 
-	private static List<BlockPos> getPotentialNeighbourLocations(KineticTileEntity te) {
-		List<BlockPos> neighbours = new LinkedList<>();
+	static List<BlockPos> getPotentialNeighbourLocations(KineticTileEntity te) {
+		List<BlockPos> neighbours = new ArrayList<>();
 
 		if (!te.getWorld().isAreaLoaded(te.getPos(), 1))
 			return neighbours;
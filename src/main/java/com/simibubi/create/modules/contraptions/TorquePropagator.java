@@ -6,36 +6,81 @@ import java.util.Map;
 import com.simibubi.create.Create;
 import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IWorld;
 
 public class TorquePropagator {
 
-	static Map<IWorld, Map<Long, KineticNetwork>> networks = new HashMap<>();
+	static Map<IWorld, Long2ObjectMap<KineticNetwork>> networks = new HashMap<>();
+	static Map<IWorld, KineticGraph> graphs = new HashMap<>();
+	static Map<IWorld, KineticPropagationQueue> queues = new HashMap<>();
 
 	public void onLoadWorld(IWorld world) {
-		networks.put(world, new HashMap<>());
+		networks.put(world, new Long2ObjectOpenHashMap<>());
+		graphs.put(world, new KineticGraph());
+		queues.put(world, new KineticPropagationQueue());
 		Create.logger.debug("Prepared Kinetic Network Space for " + world.getDimension().getType().getRegistryName());
 	}
 
 	public void onUnloadWorld(IWorld world) {
 		networks.remove(world);
+		graphs.remove(world);
+		queues.remove(world);
 		Create.logger.debug("Removed Kinetic Network Space for " + world.getDimension().getType().getRegistryName());
 	}
 
 	public KineticNetwork getOrCreateNetworkFor(KineticTileEntity te) {
-		Long id = te.network;
-		KineticNetwork network;
-		Map<Long, KineticNetwork> map = networks.get(te.getWorld());
-		if (id == null)
+		if (!te.hasNetwork())
 			return null;
 
-		if (!map.containsKey(id)) {
+		long id = te.network;
+		Long2ObjectMap<KineticNetwork> map = networks.get(te.getWorld());
+		KineticNetwork network = map.get(id);
+		if (network == null) {
 			network = new KineticNetwork();
-			network.id = te.network;
+			network.id = id;
 			map.put(id, network);
 		}
-		network = map.get(id);
 		return network;
 	}
 
+	/**
+	 * Looks up the network of the given tile entity without creating it.
+	 * 
+	 * @return null if the world or the network is not known
+	 */
+	public KineticNetwork getNetworkFor(KineticTileEntity te) {
+		if (!te.hasNetwork())
+			return null;
+		Long2ObjectMap<KineticNetwork> map = networks.get(te.getWorld());
+		if (map == null)
+			return null;
+		return map.get(te.network);
+	}
+
+	public void tick() {
+		for (KineticPropagationQueue queue : queues.values())
+			queue.flush();
+	}
+
+	public KineticPropagationQueue getOrCreateQueueFor(IWorld world) {
+		return queues.computeIfAbsent(world, w -> new KineticPropagationQueue());
+	}
+
+	public Map<IWorld, KineticPropagationQueue> getQueues() {
+		return queues;
+	}
+
+	public KineticGraph getOrCreateGraphFor(IWorld world) {
+		return graphs.computeIfAbsent(world, w -> new KineticGraph());
+	}
+
+	public void invalidateGraph(IWorld world, BlockPos pos) {
+		KineticGraph graph = graphs.get(world);
+		if (graph != null)
+			graph.invalidate(pos);
+	}
+
 }
@@ -113,7 +113,7 @@ public abstract class GeneratingKineticTileEntity extends KineticTileEntity {
 			}
 			detachKinetics();
 			setSpeed(0);
-			setNetwork(null);
+			setNetwork(NO_NETWORK);
 			return;
 		}
 
@@ -150,7 +150,7 @@ public abstract class GeneratingKineticTileEntity extends KineticTileEntity {
 		attachKinetics();
 	}
 
-	public Long createNetworkId() {
+	public long createNetworkId() {
 		return pos.toLong();
 	}
 }
@@ -87,7 +87,7 @@ public abstract class KineticBlock extends Block implements IRotate {
 				return;
 			if (worldIn.isRemote())
 				return;
-			tileEntity.network = null;
+			tileEntity.network = KineticTileEntity.NO_NETWORK;
 			tileEntity.source = null;
 			tileEntity.speed = 0;
 		}
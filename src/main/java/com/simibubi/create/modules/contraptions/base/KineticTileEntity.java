@@ -4,7 +4,6 @@ import static net.minecraft.util.text.TextFormatting.GOLD;
 import static net.minecraft.util.text.TextFormatting.GRAY;
 
 import java.util.List;
-import java.util.Map;
 
 import javax.annotation.Nullable;
 
@@ -29,16 +28,18 @@ import net.minecraft.nbt.NBTUtil;
 import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
-import net.minecraftforge.common.ForgeConfigSpec.ConfigValue;
 
 public abstract class KineticTileEntity extends SmartTileEntity
 		implements ITickableTileEntity, IHaveGoggleInformation, IHaveHoveringInformation {
 
-	public @Nullable Long network;
+	public static final long NO_NETWORK = Long.MIN_VALUE;
+
+	public long network = NO_NETWORK;
+	public int networkSlot = -1;
+	public int observerSlot = -1;
 	public @Nullable BlockPos source;
 	public boolean networkDirty;
 
@@ -54,6 +55,11 @@ public abstract class KineticTileEntity extends SmartTileEntity
 	private float lastStressApplied;
 	private float lastCapacityProvided;
 
+	// Client-side light cache of the kinetic renderer
+	World lightCacheWorld;
+	long lightCacheTick;
+	int cachedLight;
+
 	public KineticTileEntity(TileEntityType<?> typeIn) {
 		super(typeIn);
 		effects = new KineticEffectHandler(this);
@@ -61,6 +67,8 @@ public abstract class KineticTileEntity extends SmartTileEntity
 
 	@Override
 	public void initialize() {
+		if (!world.isRemote)
+			Create.torquePropagator.invalidateGraph(world, pos);
 		if (hasNetwork()) {
 			KineticNetwork network = getOrCreateNetwork();
 			if (!network.initialized)
@@ -116,7 +124,7 @@ public abstract class KineticTileEntity extends SmartTileEntity
 
 		if (speed != 0) {
 			if (getGeneratedSpeed() == 0)
-				speed = 0;
+				setSpeed(0);
 		}
 	}
 
@@ -138,19 +146,11 @@ public abstract class KineticTileEntity extends SmartTileEntity
 	}
 
 	public float getAddedStressCapacity() {
-		Map<ResourceLocation, ConfigValue<Double>> capacityMap = AllConfigs.SERVER.kinetics.stressValues.capacities;
-		ResourceLocation path = getBlockState().getBlock().getRegistryName();
-		if (!capacityMap.containsKey(path))
-			return 0;
-		return capacityMap.get(path).get().floatValue();
+		return AllConfigs.SERVER.kinetics.stressValues.getCapacity(getBlockState().getBlock());
 	}
 
 	public float getStressApplied() {
-		Map<ResourceLocation, ConfigValue<Double>> stressEntries = AllConfigs.SERVER.kinetics.stressValues.impacts;
-		ResourceLocation path = getBlockState().getBlock().getRegistryName();
-		if (!stressEntries.containsKey(path))
-			return 1;
-		return stressEntries.get(path).get().floatValue();
+		return AllConfigs.SERVER.kinetics.stressValues.getImpact(getBlockState().getBlock());
 	}
 
 	public void onSpeedChanged(float previousSpeed) {
@@ -164,6 +164,7 @@ public abstract class KineticTileEntity extends SmartTileEntity
 	@Override
 	public void remove() {
 		if (!world.isRemote) {
+			Create.torquePropagator.invalidateGraph(world, pos);
 			if (hasNetwork())
 				getOrCreateNetwork().remove(this);
 			detachKinetics();
@@ -171,6 +172,16 @@ public abstract class KineticTileEntity extends SmartTileEntity
 		super.remove();
 	}
 
+	@Override
+	public void onChunkUnloaded() {
+		if (!world.isRemote) {
+			Create.torquePropagator.invalidateGraph(world, pos);
+			if (hasNetwork())
+				getOrCreateNetwork().unload(this);
+		}
+		super.onChunkUnloaded();
+	}
+
 	@Override
 	public CompoundNBT write(CompoundNBT compound) {
 		compound.putFloat("Speed", speed);
@@ -179,6 +190,13 @@ public abstract class KineticTileEntity extends SmartTileEntity
 			compound.put("Source", NBTUtil.writeBlockPos(source));
 
 		if (hasNetwork()) {
+			KineticNetwork network = world != null && !world.isRemote ? Create.torquePropagator.getNetworkFor(this) : null;
+			if (network != null && network.contains(this)) {
+				capacity = network.getCurrentCapacity();
+				stress = network.getCurrentStress();
+				networkSize = network.getSize();
+			}
+
 			CompoundNBT networkTag = new CompoundNBT();
 			networkTag.putLong("Id", this.network);
 			networkTag.putFloat("Stress", stress);
@@ -203,7 +221,7 @@ public abstract class KineticTileEntity extends SmartTileEntity
 		speed = compound.getFloat("Speed");
 
 		source = null;
-		network = null;
+		network = NO_NETWORK;
 		overStressed = false;
 		stress = 0;
 		capacity = 0;
@@ -255,6 +273,8 @@ public abstract class KineticTileEntity extends SmartTileEntity
 
 	public void setSpeed(float speed) {
 		this.speed = speed;
+		if (world != null && !world.isRemote && hasNetwork())
+			getOrCreateNetwork().updateSpeedFor(this);
 	}
 
 	public boolean hasSource() {
@@ -280,23 +300,22 @@ public abstract class KineticTileEntity extends SmartTileEntity
 
 		speed = 0;
 		source = null;
-		setNetwork(null);
+		setNetwork(NO_NETWORK);
 
 		onSpeedChanged(prevSpeed);
 	}
 
-	public void setNetwork(@Nullable Long networkIn) {
+	public void setNetwork(long networkIn) {
 		if (network == networkIn)
 			return;
-		if (network != null)
+		if (hasNetwork())
 			getOrCreateNetwork().remove(this);
 
 		network = networkIn;
 
-		if (networkIn == null)
+		if (networkIn == NO_NETWORK)
 			return;
 
-		network = networkIn;
 		KineticNetwork network = getOrCreateNetwork();
 		network.initialized = true;
 		network.add(this);
@@ -307,7 +326,7 @@ public abstract class KineticTileEntity extends SmartTileEntity
 	}
 
 	public boolean hasNetwork() {
-		return network != null;
+		return network != NO_NETWORK;
 	}
 
 	public void attachKinetics() {
@@ -318,6 +337,14 @@ public abstract class KineticTileEntity extends SmartTileEntity
 		RotationPropagator.handleRemoved(world, pos, this);
 	}
 
+	/**
+	 * Members returning true here are kept up to date with the stress and capacity
+	 * of their network, others only get notified when it becomes overstressed.
+	 */
+	public boolean observesNetworkStress() {
+		return false;
+	}
+
 	public boolean isSpeedRequirementFulfilled() {
 		BlockState state = getBlockState();
 		if (!(getBlockState().getBlock() instanceof IRotate))
@@ -20,7 +20,7 @@ import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 @EventBusSubscriber(value = Dist.CLIENT)
 public class KineticTileEntityRenderer extends SafeTileEntityRendererFast<KineticTileEntity> {
 
-	public static final Compartment<BlockState> KINETIC_TILE = new Compartment<>();
+	public static final Compartment<BlockState> KINETIC_TILE = new Compartment<>("kinetic");
 	public static boolean rainbowMode = false;
 
 	@Override
@@ -35,9 +35,40 @@ public class KineticTileEntityRenderer extends SafeTileEntityRendererFast<Kineti
 		renderRotatingBuffer(te, world, superByteBuffer, x, y, z, buffer);
 	}
 
+	/**
+	 * Kinetic blocks sharing a model, axis and angle only differ in their position
+	 * and light, so the model is transformed once per group and frame and then just
+	 * moved to each of them. Tinted blocks are transformed one by one.
+	 */
 	public static void renderRotatingBuffer(KineticTileEntity te, World world, SuperByteBuffer superBuffer, double x,
 			double y, double z, BufferBuilder buffer) {
-		buffer.putBulkData(standardKineticRotationTransform(superBuffer, te, world).translate(x, y, z).build());
+		BlockState state = te.getBlockState();
+		Axis axis = ((IRotate) state.getBlock()).getRotationAxis(state);
+		float angle = getAngleForTe(te, te.getPos(), axis);
+
+		if (KineticDebugger.isActive() || te.effects.overStressedEffect != 0) {
+			buffer.putBulkData(kineticRotationTransform(superBuffer, te, axis, angle, world).translate(x, y, z).build());
+			return;
+		}
+
+		long key = (long) Float.floatToIntBits(angle) << 32 | axis.ordinal();
+		if (!superBuffer.hasTemplate(key))
+			superBuffer.rotateCentered(axis, angle);
+		superBuffer.light(getPackedLight(te, world)).color(0xFFFFFF);
+		buffer.putBulkData(superBuffer.buildTemplate(key, (float) x, (float) y, (float) z));
+	}
+
+	/**
+	 * Light of a kinetic block, looked up at most once per game tick.
+	 */
+	public static int getPackedLight(KineticTileEntity te, World world) {
+		long tick = world.getGameTime();
+		if (te.lightCacheWorld != world || te.lightCacheTick != tick) {
+			te.cachedLight = te.getBlockState().getPackedLightmapCoords(world, te.getPos());
+			te.lightCacheWorld = world;
+			te.lightCacheTick = tick;
+		}
+		return te.cachedLight;
 	}
 
 	public static float getAngleForTe(KineticTileEntity te, final BlockPos pos, Axis axis) {
@@ -56,8 +87,7 @@ public class KineticTileEntityRenderer extends SafeTileEntityRendererFast<Kineti
 
 	public static SuperByteBuffer kineticRotationTransform(SuperByteBuffer buffer, KineticTileEntity te, Axis axis,
 			float angle, World world) {
-		int packedLightmapCoords = te.getBlockState().getPackedLightmapCoords(world, te.getPos());
-		buffer.light(packedLightmapCoords);
+		buffer.light(getPackedLight(te, world));
 		buffer.rotateCentered(axis, angle);
 
 		int white = 0xFFFFFF;
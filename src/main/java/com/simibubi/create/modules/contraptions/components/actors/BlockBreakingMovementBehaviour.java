@@ -3,6 +3,7 @@ package com.simibubi.create.modules.contraptions.components.actors;
 import com.simibubi.create.foundation.utility.BlockHelper;
 import com.simibubi.create.modules.contraptions.components.contraptions.MovementBehaviour;
 import com.simibubi.create.modules.contraptions.components.contraptions.MovementContext;
+import com.simibubi.create.modules.contraptions.components.contraptions.MovementState;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
@@ -18,11 +19,17 @@ import net.minecraft.world.World;
 
 public class BlockBreakingMovementBehaviour extends MovementBehaviour {
 
+	@Override
+	public MovementState createState(MovementContext context) {
+		return new BreakingState();
+	}
+
 	@Override
 	public void startMoving(MovementContext context) {
 		if (context.world.isRemote)
 			return;
-		context.data.putInt("BreakerId", -BlockBreakingKineticTileEntity.NEXT_BREAKER_ID.incrementAndGet());
+		BreakingState state = context.getState();
+		state.breakerId = -BlockBreakingKineticTileEntity.NEXT_BREAKER_ID.incrementAndGet();
 	}
 
 	@Override
@@ -48,7 +55,8 @@ public class BlockBreakingMovementBehaviour extends MovementBehaviour {
 		if (!canBreak(world, pos, stateVisited))
 			return;
 
-		context.data.put("BreakingPos", NBTUtil.writeBlockPos(pos));
+		BreakingState state = context.getState();
+		state.breakingPos = pos.toImmutable();
 		context.stall = true;
 	}
 
@@ -58,55 +66,42 @@ public class BlockBreakingMovementBehaviour extends MovementBehaviour {
 
 	@Override
 	public void stopMoving(MovementContext context) {
-		CompoundNBT data = context.data;
+		BreakingState state = context.getState();
 		if (context.world.isRemote)
 			return;
-		if (!data.contains("BreakingPos"))
+		if (state.breakingPos == null)
 			return;
 
-		World world = context.world;
-		int id = data.getInt("BreakerId");
-		BlockPos breakingPos = NBTUtil.readBlockPos(data.getCompound("BreakingPos"));
-
-		data.remove("Progress");
-		data.remove("TicksUntilNextProgress");
-		data.remove("BreakingPos");
-
+		BlockPos breakingPos = state.breakingPos;
+		state.reset();
 		context.stall = false;
-		world.sendBlockBreakProgress(id, breakingPos, -1);
+		context.world.sendBlockBreakProgress(state.breakerId, breakingPos, -1);
 	}
 
 	@Override
 	public void tick(MovementContext context) {
-		CompoundNBT data = context.data;
+		BreakingState state = context.getState();
 		if (context.world.isRemote)
 			return;
-		if (!data.contains("BreakingPos"))
+		if (state.breakingPos == null)
 			return;
 		if (context.relativeMotion.equals(Vec3d.ZERO)) {
 			context.stall = false;
 			return;
 		}
 
-		int ticksUntilNextProgress = data.getInt("TicksUntilNextProgress");
-		if (ticksUntilNextProgress-- > 0) {
-			data.putInt("TicksUntilNextProgress", ticksUntilNextProgress);
+		if (state.ticksUntilNextProgress-- > 0)
 			return;
-		}
 
 		World world = context.world;
-		BlockPos breakingPos = NBTUtil.readBlockPos(data.getCompound("BreakingPos"));
-		int destroyProgress = data.getInt("Progress");
-		int id = data.getInt("BreakerId");
+		BlockPos breakingPos = state.breakingPos;
+		int id = state.breakerId;
 		BlockState stateToBreak = world.getBlockState(breakingPos);
 		float blockHardness = stateToBreak.getBlockHardness(world, breakingPos);
 
 		if (!canBreak(world, breakingPos, stateToBreak)) {
-			if (destroyProgress != 0) {
-				destroyProgress = 0;
-				data.remove("Progress");
-				data.remove("TicksUntilNextProgress");
-				data.remove("BreakingPos");
+			if (state.progress != 0) {
+				state.reset();
 				context.stall = false;
 				world.sendBlockBreakProgress(id, breakingPos, -1);
 			}
@@ -114,24 +109,19 @@ public class BlockBreakingMovementBehaviour extends MovementBehaviour {
 		}
 
 		float breakSpeed = MathHelper.clamp(Math.abs(context.getAnimationSpeed()) / 500f, 1 / 128f, 16f);
-		destroyProgress += MathHelper.clamp((int) (breakSpeed / blockHardness), 1, 10 - destroyProgress);
+		state.progress += MathHelper.clamp((int) (breakSpeed / blockHardness), 1, 10 - state.progress);
 
-		if (destroyProgress >= 10) {
+		if (state.progress >= 10) {
 			BlockHelper.destroyBlock(context.world, breakingPos, 1f, stack -> this.dropItem(context, stack));
 			onBlockBroken(context, breakingPos);
-			ticksUntilNextProgress = -1;
 			world.sendBlockBreakProgress(id, breakingPos, -1);
-			data.remove("Progress");
-			data.remove("TicksUntilNextProgress");
-			data.remove("BreakingPos");
+			state.reset();
 			context.stall = false;
 			return;
 		}
 
-		ticksUntilNextProgress = (int) (blockHardness / breakSpeed);
-		world.sendBlockBreakProgress(id, breakingPos, (int) destroyProgress);
-		data.putInt("TicksUntilNextProgress", ticksUntilNextProgress);
-		data.putInt("Progress", destroyProgress);
+		state.ticksUntilNextProgress = (int) (blockHardness / breakSpeed);
+		world.sendBlockBreakProgress(id, breakingPos, state.progress);
 	}
 
 	public boolean canBreak(World world, BlockPos breakingPos, BlockState state) {
@@ -142,4 +132,41 @@ public class BlockBreakingMovementBehaviour extends MovementBehaviour {
 	protected void onBlockBroken(MovementContext context, BlockPos pos) {
 	}
 
+	public static class BreakingState extends MovementState {
+
+		int breakerId;
+		BlockPos breakingPos;
+		int progress;
+		int ticksUntilNextProgress;
+
+		void reset() {
+			breakingPos = null;
+			progress = 0;
+			ticksUntilNextProgress = 0;
+		}
+
+		@Override
+		public void read(CompoundNBT data) {
+			breakerId = data.getInt("BreakerId");
+			breakingPos = data.contains("BreakingPos") ? NBTUtil.readBlockPos(data.getCompound("BreakingPos")) : null;
+			progress = data.getInt("Progress");
+			ticksUntilNextProgress = data.getInt("TicksUntilNextProgress");
+		}
+
+		@Override
+		public void write(CompoundNBT data) {
+			data.putInt("BreakerId", breakerId);
+			if (breakingPos == null) {
+				data.remove("BreakingPos");
+				data.remove("Progress");
+				data.remove("TicksUntilNextProgress");
+				return;
+			}
+			data.put("BreakingPos", NBTUtil.writeBlockPos(breakingPos));
+			data.putInt("Progress", progress);
+			data.putInt("TicksUntilNextProgress", ticksUntilNextProgress);
+		}
+
+	}
+
 }
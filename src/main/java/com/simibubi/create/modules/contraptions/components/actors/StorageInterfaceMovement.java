@@ -10,10 +10,12 @@ import com.simibubi.create.foundation.item.ItemHelper;
 import com.simibubi.create.foundation.utility.VecHelper;
 import com.simibubi.create.modules.contraptions.components.contraptions.MovementBehaviour;
 import com.simibubi.create.modules.contraptions.components.contraptions.MovementContext;
+import com.simibubi.create.modules.contraptions.components.contraptions.MovementState;
 import com.simibubi.create.modules.logistics.block.transposer.TransposerBlock;
 import com.simibubi.create.modules.logistics.block.transposer.TransposerTileEntity;
 
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.NBTUtil;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
@@ -30,6 +32,11 @@ public class StorageInterfaceMovement extends MovementBehaviour {
 	private static final String _delay_ = "Delay";
 	private static final String _workingPos_ = "WorkingPos";
 
+	@Override
+	public MovementState createState(MovementContext context) {
+		return new InterfaceState();
+	}
+
 	@Override
 	public Vec3d getActiveAreaOffset(MovementContext context) {
 		return new Vec3d(context.state.get(PortableStorageInterfaceBlock.FACING).getDirectionVec()).scale(.85f);
@@ -41,34 +48,33 @@ public class StorageInterfaceMovement extends MovementBehaviour {
 		TransposerTileEntity transposer = getValidTransposer(context.world, pos, currentFacing.getAxis());
 		if (transposer == null)
 			return;
-		context.data.put(_workingPos_, NBTUtil.writeBlockPos(pos));
-		context.data.putBoolean(_exporting_,
-				TransposerBlock.getBlockFacing(transposer.getBlockState()) != currentFacing);
+		InterfaceState state = context.getState();
+		state.workingPos = pos.toImmutable();
+		state.exporting = TransposerBlock.getBlockFacing(transposer.getBlockState()) != currentFacing;
 		context.stall = true;
 	}
 
 	@Override
 	public void tick(MovementContext context) {
-		if (!context.data.contains(_workingPos_))
+		InterfaceState state = context.getState();
+		if (state.workingPos == null)
 			return;
 		if (context.world.isRemote)
 			return;
 
-		BlockPos pos = NBTUtil.readBlockPos(context.data.getCompound(_workingPos_));
-		TransposerTileEntity transposer = getValidTransposer(context.world, pos, getCurrentFacing(context).getAxis());
+		TransposerTileEntity transposer =
+			getValidTransposer(context.world, state.workingPos, getCurrentFacing(context).getAxis());
 		if (transposer == null) {
 			reset(context);
 			return;
 		}
 
-		int nextExtract = context.data.getInt(_delay_);
-		if (nextExtract > 0) {
-			nextExtract--;
-			context.data.putInt(_delay_, nextExtract);
+		if (state.delay > 0) {
+			state.delay--;
 			return;
 		}
 
-		boolean extract = context.data.getBoolean(_exporting_);
+		boolean extract = state.exporting;
 		boolean success = false;
 		IItemHandlerModifiable inv = context.contraption.inventory;
 		SingleTargetAutoExtractingBehaviour extracting =
@@ -122,7 +128,7 @@ public class StorageInterfaceMovement extends MovementBehaviour {
 			return;
 		}
 
-		context.data.putInt(_delay_, AllConfigs.SERVER.logistics.extractorDelay.get());
+		state.delay = AllConfigs.SERVER.logistics.extractorDelay.get();
 	}
 
 	@Override
@@ -131,9 +137,10 @@ public class StorageInterfaceMovement extends MovementBehaviour {
 	}
 
 	public void reset(MovementContext context) {
-		context.data.remove(_workingPos_);
-		context.data.remove(_delay_);
-		context.data.remove(_exporting_);
+		InterfaceState state = context.getState();
+		state.workingPos = null;
+		state.delay = 0;
+		state.exporting = false;
 		context.stall = false;
 	}
 
@@ -154,4 +161,32 @@ public class StorageInterfaceMovement extends MovementBehaviour {
 		return Direction.getFacingFromVector(directionVec.x, directionVec.y, directionVec.z);
 	}
 
+	static class InterfaceState extends MovementState {
+
+		BlockPos workingPos;
+		boolean exporting;
+		int delay;
+
+		@Override
+		public void read(CompoundNBT data) {
+			workingPos = data.contains(_workingPos_) ? NBTUtil.readBlockPos(data.getCompound(_workingPos_)) : null;
+			exporting = data.getBoolean(_exporting_);
+			delay = data.getInt(_delay_);
+		}
+
+		@Override
+		public void write(CompoundNBT data) {
+			if (workingPos == null) {
+				data.remove(_workingPos_);
+				data.remove(_exporting_);
+				data.remove(_delay_);
+				return;
+			}
+			data.put(_workingPos_, NBTUtil.writeBlockPos(workingPos));
+			data.putBoolean(_exporting_, exporting);
+			data.putInt(_delay_, delay);
+		}
+
+	}
+
 }
@@ -1,11 +1,13 @@
 package com.simibubi.create.modules.contraptions.components.contraptions;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
@@ -31,38 +33,53 @@ import com.simibubi.create.modules.contraptions.relays.belt.BeltBlock;
 import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntity;
 import com.simibubi.create.modules.logistics.block.inventories.FlexcrateBlock;
 
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.ChestBlock;
 import net.minecraft.block.DoorBlock;
 import net.minecraft.block.SlimeBlock;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.nbt.NBTUtil;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.state.properties.ChestType;
 import net.minecraft.state.properties.DoubleBlockHalf;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.BitArray;
 import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.Direction;
 import net.minecraft.util.Direction.Axis;
 import net.minecraft.util.Direction.AxisDirection;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.template.Template.BlockInfo;
 import net.minecraftforge.common.util.Constants.BlockFlags;
 import net.minecraftforge.items.IItemHandlerModifiable;
-import net.minecraftforge.items.wrapper.CombinedInvWrapper;
+import net.minecraftforge.items.ItemHandlerHelper;
 
 public abstract class Contraption {
 
+	private static final int SEARCH_LIMIT = 100000;
+	private static final int BLOCKS_VERSION = 1;
+	private static final int BULK_FLAGS = 2 | 16 | BlockFlags.IS_MOVING;
+
 	public Map<BlockPos, BlockInfo> blocks;
 	public Map<BlockPos, MountedStorage> storage;
 	public List<MutablePair<BlockInfo, MovementContext>> actors;
-	public CombinedInvWrapper inventory;
+	public ContraptionInventory inventory;
 	public List<TileEntity> customRenderTEs;
 
 	public AxisAlignedBB bounds;
@@ -70,9 +87,26 @@ public abstract class Contraption {
 
 	protected Set<BlockPos> cachedColliders;
 	protected Direction cachedColliderDirection;
+	BlockPos clearWorldPos;
+	Direction clearWorldDirection;
+	BlockPos[] clearWorldTargets;
+	BlockState[] clearWorldStates;
 	protected BlockPos anchor;
 
 	List<BlockPos> renderOrder;
+	List<BlockInfo> pendingRenderTEs;
+	private CompoundNBT blocksNBT;
+	private byte[] blocksPayload;
+	private ContraptionCollisionGrid collisionGrid;
+	ContraptionLighter lighter;
+	private List<MutablePair<MovementContext, ItemStack>> pendingDrops;
+	private boolean batchingDrops;
+
+	private Queue<BlockPos> frontier;
+	private LongSet visited;
+	private Long2ObjectLinkedOpenHashMap<BlockState> pendingBlocks;
+	private Direction searchDirection;
+	private int searchSteps;
 
 	public Contraption() {
 		blocks = new HashMap<>();
@@ -80,6 +114,8 @@ public abstract class Contraption {
 		actors = new ArrayList<>();
 		renderOrder = new ArrayList<>();
 		customRenderTEs = new ArrayList<>();
+		pendingRenderTEs = new ArrayList<>();
+		pendingDrops = new ArrayList<>();
 	}
 
 	public Set<BlockPos> getColliders(World world, Direction movementDirection) {
@@ -103,41 +139,99 @@ public abstract class Contraption {
 		return cachedColliders;
 	}
 
+	public ContraptionCollisionGrid getCollisionGrid(World world) {
+		if (collisionGrid == null)
+			collisionGrid = new ContraptionCollisionGrid(world, blocks);
+		return collisionGrid;
+	}
+
 	public boolean searchMovedStructure(World world, BlockPos pos, @Nullable Direction forcedDirection) {
-		List<BlockPos> frontier = new ArrayList<>();
-		Set<BlockPos> visited = new HashSet<>();
+		if (!startSearch(world, pos, forcedDirection))
+			return false;
+		if (continueSearch(world, Integer.MAX_VALUE) != SearchState.FOUND)
+			return false;
+		return capturePending(world);
+	}
+
+	/**
+	 * Prepares a search that can be spread over several ticks with
+	 * {@link #continueSearch(World, int)}. Found blocks are only captured once
+	 * {@link #capturePending(World)} is called.
+	 */
+	public boolean startSearch(World world, BlockPos pos, @Nullable Direction forcedDirection) {
+		frontier = new ArrayDeque<>();
+		visited = new LongOpenHashSet();
+		pendingBlocks = new Long2ObjectLinkedOpenHashMap<>();
+		searchDirection = forcedDirection;
+		searchSteps = 0;
 		anchor = pos;
 
 		if (bounds == null)
 			bounds = new AxisAlignedBB(BlockPos.ZERO);
 
 		frontier.add(pos);
-		if (!addToInitialFrontier(world, pos, forcedDirection, frontier))
-			return false;
-		for (int limit = 100000; limit > 0; limit--) {
+		return addToInitialFrontier(world, pos, forcedDirection, frontier);
+	}
+
+	/**
+	 * Visits up to the given number of new positions. Positions queued more than
+	 * once are skipped without counting towards either limit.
+	 */
+	public SearchState continueSearch(World world, int steps) {
+		while (steps > 0) {
 			if (frontier.isEmpty())
-				return true;
-			if (!moveBlock(world, frontier.remove(0), forcedDirection, frontier, visited))
+				return SearchState.FOUND;
+			BlockPos current = frontier.poll();
+			if (visited.contains(current.toLong()))
+				continue;
+			if (searchSteps++ >= SEARCH_LIMIT)
+				return SearchState.FAILED;
+			if (!moveBlock(world, current, searchDirection, frontier, visited))
+				return SearchState.FAILED;
+			steps--;
+		}
+		return frontier.isEmpty() ? SearchState.FOUND : SearchState.SEARCHING;
+	}
+
+	/**
+	 * Captures the blocks found by the search. A block that was replaced since it
+	 * was found invalidates the whole search, changes to its state are picked up.
+	 *
+	 * @return false if the structure changed while it was searched
+	 */
+	public boolean capturePending(World world) {
+		for (Long2ObjectMap.Entry<BlockState> entry : pendingBlocks.long2ObjectEntrySet()) {
+			BlockPos pos = BlockPos.fromLong(entry.getLongKey());
+			if (!world.isBlockPresent(pos))
 				return false;
+			if (world.getBlockState(pos).getBlock() != entry.getValue().getBlock())
+				return false;
+		}
+		for (long pos : pendingBlocks.keySet()) {
+			BlockPos blockPos = BlockPos.fromLong(pos);
+			add(blockPos, capture(world, blockPos));
 		}
-		return false;
+
+		frontier = null;
+		visited = null;
+		pendingBlocks = null;
+		return true;
 	}
 
 	public void gatherStoredItems() {
 		List<IItemHandlerModifiable> list =
 			storage.values().stream().map(MountedStorage::getItemHandler).collect(Collectors.toList());
-		inventory = new CombinedInvWrapper(Arrays.copyOf(list.toArray(), list.size(), IItemHandlerModifiable[].class));
+		inventory = new ContraptionInventory(Arrays.copyOf(list.toArray(), list.size(), IItemHandlerModifiable[].class));
 	}
 
 	protected boolean addToInitialFrontier(World world, BlockPos pos, Direction forcedDirection,
-			List<BlockPos> frontier) {
+			Queue<BlockPos> frontier) {
 		return true;
 	}
 
-	protected boolean moveBlock(World world, BlockPos pos, Direction forcedDirection, List<BlockPos> frontier,
-			Set<BlockPos> visited) {
-		visited.add(pos);
-		frontier.remove(pos);
+	protected boolean moveBlock(World world, BlockPos pos, Direction forcedDirection, Queue<BlockPos> frontier,
+			LongSet visited) {
+		visited.add(pos.toLong());
 
 		if (!world.isBlockPresent(pos))
 			return false;
@@ -153,14 +247,14 @@ public abstract class Contraption {
 		if (AllBlocks.BELT.typeOf(state)) {
 			BlockPos nextPos = BeltBlock.nextSegmentPosition(state, pos, true);
 			BlockPos prevPos = BeltBlock.nextSegmentPosition(state, pos, false);
-			if (nextPos != null && !visited.contains(nextPos))
+			if (nextPos != null && !visited.contains(nextPos.toLong()))
 				frontier.add(nextPos);
-			if (prevPos != null && !visited.contains(prevPos))
+			if (prevPos != null && !visited.contains(prevPos.toLong()))
 				frontier.add(prevPos);
 		}
 		if (state.getBlock() instanceof DoorBlock) {
 			BlockPos otherPartPos = pos.up(state.get(DoorBlock.HALF) == DoubleBlockHalf.LOWER ? 1 : -1);
-			if (!visited.contains(otherPartPos))
+			if (!visited.contains(otherPartPos.toLong()))
 				frontier.add(otherPartPos);
 		}
 
@@ -175,13 +269,13 @@ public abstract class Contraption {
 					return false;
 				continue;
 			}
-			if (!visited.contains(offsetPos)
+			if (!visited.contains(offsetPos.toLong())
 					&& (isSlimeBlock || BlockMovementTraits.isBlockAttachedTowards(blockState, offset.getOpposite())))
 				frontier.add(offsetPos);
 		}
 
-		add(pos, capture(world, pos));
-		if (blocks.size() > AllConfigs.SERVER.kinetics.maxBlocksMoved.get())
+		pendingBlocks.put(pos.toLong(), world.getBlockState(pos));
+		if (blocks.size() + pendingBlocks.size() > AllConfigs.SERVER.kinetics.maxBlocksMoved.get())
 			return false;
 		return true;
 	}
@@ -190,8 +284,8 @@ public abstract class Contraption {
 		return state.getBlock() instanceof AbstractChassisBlock;
 	}
 
-	private boolean moveChassis(World world, BlockPos pos, Direction movementDirection, List<BlockPos> frontier,
-			Set<BlockPos> visited) {
+	private boolean moveChassis(World world, BlockPos pos, Direction movementDirection, Queue<BlockPos> frontier,
+			LongSet visited) {
 		TileEntity te = world.getTileEntity(pos);
 		if (!(te instanceof ChassisTileEntity))
 			return false;
@@ -201,7 +295,7 @@ public abstract class Contraption {
 		if (includedBlockPositions == null)
 			return false;
 		for (BlockPos blockPos : includedBlockPositions)
-			if (!visited.contains(blockPos))
+			if (!visited.contains(blockPos.toLong()))
 				frontier.add(blockPos);
 		return true;
 	}
@@ -238,6 +332,7 @@ public abstract class Contraption {
 		BlockPos localPos = pos.subtract(anchor);
 		BlockInfo blockInfo = new BlockInfo(localPos, captured.state, captured.nbt);
 
+		invalidateBlockCaches();
 		if (blocks.put(localPos, blockInfo) != null)
 			return;
 		bounds = bounds.union(new AxisAlignedBB(localPos));
@@ -249,6 +344,115 @@ public abstract class Contraption {
 			getActors().add(MutablePair.of(blockInfo, null));
 	}
 
+	public CompoundNBT getBlocksNBT() {
+		if (blocksNBT == null)
+			blocksNBT = writeBlocks();
+		return blocksNBT;
+	}
+
+	/**
+	 * The encoded blocks, shared by the spawn packets of everyone tracking the
+	 * contraption.
+	 */
+	public byte[] getBlocksPayload() {
+		if (blocksPayload == null) {
+			PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+			buffer.writeCompoundTag(getBlocksNBT());
+			blocksPayload = new byte[buffer.readableBytes()];
+			buffer.readBytes(blocksPayload);
+		}
+		return blocksPayload;
+	}
+
+	protected void invalidateBlockCaches() {
+		blocksNBT = null;
+		blocksPayload = null;
+		collisionGrid = null;
+		clearWorldPos = null;
+	}
+
+	/**
+	 * Block states are stored once in a palette and referenced by bit-packed
+	 * indices, positions are packed into a single long each. Tile entity data is
+	 * only written for the blocks that have any.
+	 */
+	protected CompoundNBT writeBlocks() {
+		List<BlockState> palette = new ArrayList<>();
+		Object2IntMap<BlockState> paletteIndices = new Object2IntOpenHashMap<>();
+		for (BlockInfo block : blocks.values())
+			if (!paletteIndices.containsKey(block.state)) {
+				paletteIndices.put(block.state, palette.size());
+				palette.add(block.state);
+			}
+
+		int count = blocks.size();
+		long[] positions = new long[count];
+		BitArray states = new BitArray(getPaletteBits(palette.size()), count);
+		ListNBT dataNBT = new ListNBT();
+		int index = 0;
+		for (BlockInfo block : blocks.values()) {
+			positions[index] = block.pos.toLong();
+			states.setAt(index, paletteIndices.getInt(block.state));
+			if (block.nbt != null) {
+				CompoundNBT c = new CompoundNBT();
+				c.putInt("Index", index);
+				c.put("Data", block.nbt);
+				dataNBT.add(c);
+			}
+			index++;
+		}
+
+		ListNBT paletteNBT = new ListNBT();
+		for (BlockState state : palette)
+			paletteNBT.add(NBTUtil.writeBlockState(state));
+
+		CompoundNBT nbt = new CompoundNBT();
+		nbt.putInt("Version", BLOCKS_VERSION);
+		nbt.put("Palette", paletteNBT);
+		nbt.putLongArray("Positions", positions);
+		nbt.putLongArray("States", states.getBackingLongArray());
+		nbt.put("Data", dataNBT);
+		return nbt;
+	}
+
+	protected List<BlockInfo> readBlocks(CompoundNBT nbt) {
+		List<BlockInfo> infos = new ArrayList<>();
+
+		// Contraptions saved before the palette was introduced
+		if (!nbt.contains("BlockPalette")) {
+			nbt.getList("Blocks", 10).forEach(c -> {
+				CompoundNBT comp = (CompoundNBT) c;
+				infos.add(new BlockInfo(NBTUtil.readBlockPos(comp.getCompound("Pos")),
+						NBTUtil.readBlockState(comp.getCompound("Block")),
+						comp.contains("Data") ? comp.getCompound("Data") : null));
+			});
+			return infos;
+		}
+
+		CompoundNBT blocksNBT = nbt.getCompound("BlockPalette");
+		ListNBT paletteNBT = blocksNBT.getList("Palette", 10);
+		BlockState[] palette = new BlockState[paletteNBT.size()];
+		for (int i = 0; i < palette.length; i++)
+			palette[i] = NBTUtil.readBlockState(paletteNBT.getCompound(i));
+
+		long[] positions = blocksNBT.getLongArray("Positions");
+		BitArray states =
+			new BitArray(getPaletteBits(palette.length), positions.length, blocksNBT.getLongArray("States"));
+		CompoundNBT[] data = new CompoundNBT[positions.length];
+		blocksNBT.getList("Data", 10).forEach(c -> {
+			CompoundNBT comp = (CompoundNBT) c;
+			data[comp.getInt("Index")] = comp.getCompound("Data");
+		});
+
+		for (int i = 0; i < positions.length; i++)
+			infos.add(new BlockInfo(BlockPos.fromLong(positions[i]), palette[states.getAt(i)], data[i]));
+		return infos;
+	}
+
+	private static int getPaletteBits(int paletteSize) {
+		return Math.max(1, MathHelper.log2DeBruijn(paletteSize));
+	}
+
 	public static Contraption fromNBT(World world, CompoundNBT nbt) {
 		String type = nbt.getString("Type");
 		Contraption contraption = AllContraptionTypes.fromType(type);
@@ -256,16 +460,46 @@ public abstract class Contraption {
 		return contraption;
 	}
 
+	/**
+	 * Tile entities rendered with a contraption are not created as soon as its
+	 * data arrives, but a few at a time once it is being rendered.
+	 */
+	public void createPendingRenderTEs(World world, int limit) {
+		for (; limit > 0 && !pendingRenderTEs.isEmpty(); limit--) {
+			BlockInfo info = pendingRenderTEs.remove(pendingRenderTEs.size() - 1);
+			CompoundNBT tag = info.nbt;
+			tag.putInt("x", info.pos.getX());
+			tag.putInt("y", info.pos.getY());
+			tag.putInt("z", info.pos.getZ());
+
+			TileEntity te = TileEntity.create(tag);
+			if (te == null)
+				continue;
+			te.setWorld(new WrappedWorld(world) {
+
+				@Override
+				public BlockState getBlockState(BlockPos pos) {
+					if (!pos.equals(te.getPos()))
+						return Blocks.AIR.getDefaultState();
+					return info.state;
+				}
+
+			});
+			if (te instanceof KineticTileEntity)
+				((KineticTileEntity) te).setSpeed(0);
+			te.getBlockState();
+			customRenderTEs.add(te);
+		}
+	}
+
 	public void readNBT(World world, CompoundNBT nbt) {
 		blocks.clear();
+		invalidateBlockCaches();
 		renderOrder.clear();
 		customRenderTEs.clear();
+		pendingRenderTEs.clear();
 
-		nbt.getList("Blocks", 10).forEach(c -> {
-			CompoundNBT comp = (CompoundNBT) c;
-			BlockInfo info = new BlockInfo(NBTUtil.readBlockPos(comp.getCompound("Pos")),
-					NBTUtil.readBlockState(comp.getCompound("Block")),
-					comp.contains("Data") ? comp.getCompound("Data") : null);
+		for (BlockInfo info : readBlocks(nbt)) {
 			blocks.put(info.pos, info);
 
 			if (world.isRemote) {
@@ -275,31 +509,11 @@ public abstract class Contraption {
 					renderOrder.add(info.pos);
 				else
 					renderOrder.add(0, info.pos);
-				CompoundNBT tag = info.nbt;
-				if (tag == null || block instanceof IPortableBlock)
-					return;
-
-				tag.putInt("x", info.pos.getX());
-				tag.putInt("y", info.pos.getY());
-				tag.putInt("z", info.pos.getZ());
-
-				TileEntity te = TileEntity.create(tag);
-				te.setWorld(new WrappedWorld(world) {
-
-					@Override
-					public BlockState getBlockState(BlockPos pos) {
-						if (!pos.equals(te.getPos()))
-							return Blocks.AIR.getDefaultState();
-						return info.state;
-					}
-
-				});
-				if (te instanceof KineticTileEntity)
-					((KineticTileEntity) te).setSpeed(0);
-				te.getBlockState();
-				customRenderTEs.add(te);
+				if (info.nbt == null || block instanceof IPortableBlock)
+					continue;
+				pendingRenderTEs.add(info);
 			}
-		});
+		}
 
 		actors.clear();
 		nbt.getList("Actors", 10).forEach(c -> {
@@ -317,7 +531,7 @@ public abstract class Contraption {
 		});
 		List<IItemHandlerModifiable> list =
 			storage.values().stream().map(MountedStorage::getItemHandler).collect(Collectors.toList());
-		inventory = new CombinedInvWrapper(Arrays.copyOf(list.toArray(), list.size(), IItemHandlerModifiable[].class));
+		inventory = new ContraptionInventory(Arrays.copyOf(list.toArray(), list.size(), IItemHandlerModifiable[].class));
 
 		if (nbt.contains("BoundsFront"))
 			bounds = NBTHelper.readAABB(nbt.getList("BoundsFront", 5));
@@ -329,15 +543,6 @@ public abstract class Contraption {
 	public CompoundNBT writeNBT() {
 		CompoundNBT nbt = new CompoundNBT();
 		nbt.putString("Type", getType().id);
-		ListNBT blocksNBT = new ListNBT();
-		for (BlockInfo block : this.blocks.values()) {
-			CompoundNBT c = new CompoundNBT();
-			c.put("Block", NBTUtil.writeBlockState(block.state));
-			c.put("Pos", NBTUtil.writeBlockPos(block.pos));
-			if (block.nbt != null)
-				c.put("Data", block.nbt);
-			blocksNBT.add(c);
-		}
 
 		ListNBT actorsNBT = new ListNBT();
 		for (MutablePair<BlockInfo, MovementContext> actor : getActors()) {
@@ -359,7 +564,7 @@ public abstract class Contraption {
 			storageNBT.add(c);
 		}
 
-		nbt.put("Blocks", blocksNBT);
+		nbt.put("BlockPalette", getBlocksNBT());
 		nbt.put("Actors", actorsNBT);
 		nbt.put("Storage", storageNBT);
 		nbt.put("Anchor", NBTUtil.writeBlockPos(anchor));
@@ -387,6 +592,7 @@ public abstract class Contraption {
 
 	public void removeBlocksFromWorld(IWorld world, BlockPos offset, BiPredicate<BlockPos, BlockState> customRemoval) {
 		storage.values().forEach(MountedStorage::empty);
+		LongSet removed = new LongOpenHashSet(blocks.size());
 		for (boolean brittles : Iterate.trueAndFalse) {
 			for (BlockInfo block : blocks.values()) {
 				if (brittles != BlockMovementTraits.isBrittle(block.state))
@@ -396,12 +602,14 @@ public abstract class Contraption {
 				if (customRemoval.test(add, block.state))
 					continue;
 				world.getWorld().removeTileEntity(add);
-				int flags = 67;
+				int flags = BULK_FLAGS;
 				if (world.getBlockState(add).getBlock() instanceof DoorBlock)
-					flags = flags | 32 | 16;
+					flags = flags | 32;
 				world.setBlockState(add, Blocks.AIR.getDefaultState(), flags);
+				removed.add(add.toLong());
 			}
 		}
+		updateBoundary(world.getWorld(), removed);
 	}
 
 	public void disassemble(World world, BlockPos offset, Vec3d rotation,
@@ -409,6 +617,10 @@ public abstract class Contraption {
 		stop(world);
 
 		StructureTransform transform = new StructureTransform(offset, rotation);
+		LongSet structure = new LongOpenHashSet(blocks.size());
+		for (BlockPos pos : blocks.keySet())
+			structure.add(transform.apply(pos).toLong());
+		LongSet placed = new LongOpenHashSet(blocks.size());
 
 		for (boolean nonBrittles : Iterate.trueAndFalse) {
 			for (BlockInfo block : blocks.values()) {
@@ -422,9 +634,13 @@ public abstract class Contraption {
 					continue;
 
 				if (nonBrittles)
-					for (Direction face : Direction.values())
-						state = state.updatePostPlacement(face, world.getBlockState(targetPos.offset(face)), world,
-								targetPos, targetPos.offset(face));
+					for (Direction face : Direction.values()) {
+						BlockPos neighbourPos = targetPos.offset(face);
+						if (structure.contains(neighbourPos.toLong()))
+							continue;
+						state = state.updatePostPlacement(face, world.getBlockState(neighbourPos), world, targetPos,
+								neighbourPos);
+					}
 
 				if (AllBlocks.SAW.typeOf(state))
 					state = state.with(SawBlock.RUNNING, false);
@@ -437,7 +653,8 @@ public abstract class Contraption {
 					continue;
 
 				world.destroyBlock(targetPos, blockState.getCollisionShape(world, targetPos).isEmpty());
-				world.setBlockState(targetPos, state, 3 | BlockFlags.IS_MOVING);
+				world.setBlockState(targetPos, state, BULK_FLAGS);
+				placed.add(targetPos.toLong());
 				TileEntity tileEntity = world.getTileEntity(targetPos);
 				CompoundNBT tag = block.nbt;
 				if (tileEntity != null && tag != null) {
@@ -457,7 +674,7 @@ public abstract class Contraption {
 						KineticTileEntity kineticTileEntity = (KineticTileEntity) tileEntity;
 						kineticTileEntity.source = null;
 						kineticTileEntity.setSpeed(0);
-						kineticTileEntity.network = null;
+						kineticTileEntity.network = KineticTileEntity.NO_NETWORK;
 						kineticTileEntity.attachKinetics();
 					}
 
@@ -471,6 +688,38 @@ public abstract class Contraption {
 			}
 
 		}
+
+		updateBoundary(world, placed);
+	}
+
+	/**
+	 * Blocks of a structure are placed and removed without notifying each other.
+	 * Once all of them are in place, only the blocks around the structure receive
+	 * shape and neighbour updates.
+	 */
+	protected void updateBoundary(World world, LongSet positions) {
+		for (long packed : positions) {
+			BlockPos pos = BlockPos.fromLong(packed);
+			BlockState state = world.getBlockState(pos);
+			boolean boundary = false;
+
+			for (Direction face : Direction.values()) {
+				BlockPos neighbourPos = pos.offset(face);
+				if (positions.contains(neighbourPos.toLong()))
+					continue;
+				boundary = true;
+				BlockState neighbourState = world.getBlockState(neighbourPos);
+				BlockState updated =
+					neighbourState.updatePostPlacement(face.getOpposite(), state, world, neighbourPos, pos);
+				Block.replaceBlock(neighbourState, updated, world, neighbourPos, 2);
+			}
+
+			if (!boundary)
+				continue;
+			world.notifyNeighbors(pos, state.getBlock());
+			if (state.hasComparatorInputOverride())
+				world.updateComparatorOutputLevel(pos, state.getBlock());
+		}
 	}
 
 	public void initActors(World world) {
@@ -482,6 +731,43 @@ public abstract class Contraption {
 		}
 	}
 
+	/**
+	 * Holds back items dropped by actors until {@link #flushDrops()}. Equal stacks
+	 * of the same actor are merged, so they only need to be inserted once.
+	 */
+	public void batchDrops() {
+		batchingDrops = true;
+	}
+
+	/**
+	 * @return false if drops are not being batched and the item has to be
+	 *         dropped right away
+	 */
+	public boolean queueDrop(MovementContext context, ItemStack stack) {
+		if (!batchingDrops)
+			return false;
+		for (MutablePair<MovementContext, ItemStack> drop : pendingDrops) {
+			ItemStack pending = drop.right;
+			if (drop.left != context || !ItemHandlerHelper.canItemStacksStack(pending, stack))
+				continue;
+			if (pending.getCount() + stack.getCount() > pending.getMaxStackSize())
+				continue;
+			pending.grow(stack.getCount());
+			return true;
+		}
+		pendingDrops.add(MutablePair.of(context, stack.copy()));
+		return true;
+	}
+
+	public void flushDrops() {
+		batchingDrops = false;
+		if (pendingDrops.isEmpty())
+			return;
+		for (MutablePair<MovementContext, ItemStack> drop : pendingDrops)
+			getMovement(drop.left.state).dropItem(drop.left, drop.right);
+		pendingDrops.clear();
+	}
+
 	public AxisAlignedBB getBoundingBox() {
 		return bounds;
 	}
@@ -539,4 +825,8 @@ public abstract class Contraption {
 
 	protected abstract AllContraptionTypes getType();
 
+	public static enum SearchState {
+		SEARCHING, FOUND, FAILED
+	}
+
 }
\ No newline at end of file
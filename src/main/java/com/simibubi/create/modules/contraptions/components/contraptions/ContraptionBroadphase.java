@@ -0,0 +1,84 @@
+package com.simibubi.create.modules.contraptions.components.contraptions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.SectionPos;
+
+/**
+ * Per-world spatial hash of the contraptions that collide with blocks while
+ * moving, bucketed by chunk section. Contraptions enter themselves with the area
+ * they could reach within the next tick. The buckets of the previous tick are
+ * kept as well, so contraptions ticking early still find the ones that have not
+ * been ticked yet.
+ */
+public class ContraptionBroadphase {
+
+	private Long2ObjectMap<List<ContraptionEntity>> cells;
+	private Long2ObjectMap<List<ContraptionEntity>> previousCells;
+	private long cellsTick;
+
+	public ContraptionBroadphase() {
+		cells = new Long2ObjectOpenHashMap<>();
+		previousCells = new Long2ObjectOpenHashMap<>();
+	}
+
+	public void add(ContraptionEntity entity, AxisAlignedBB area, long tick) {
+		if (tick != cellsTick) {
+			Long2ObjectMap<List<ContraptionEntity>> swap = previousCells;
+			previousCells = tick == cellsTick + 1 ? cells : new Long2ObjectOpenHashMap<>();
+			cells = swap;
+			cells.clear();
+			cellsTick = tick;
+		}
+
+		for (long key : getSections(area)) {
+			List<ContraptionEntity> list = cells.get(key);
+			if (list == null) {
+				list = new ArrayList<>();
+				cells.put(key, list);
+			}
+			if (!list.contains(entity))
+				list.add(entity);
+		}
+	}
+
+	public List<ContraptionEntity> getNearby(ContraptionEntity entity, AxisAlignedBB area) {
+		List<ContraptionEntity> nearby = new ArrayList<>();
+		for (long key : getSections(area)) {
+			collect(cells.get(key), entity, nearby);
+			collect(previousCells.get(key), entity, nearby);
+		}
+		return nearby;
+	}
+
+	private void collect(List<ContraptionEntity> list, ContraptionEntity entity, List<ContraptionEntity> nearby) {
+		if (list == null)
+			return;
+		for (ContraptionEntity other : list)
+			if (other != entity && other.isAlive() && !nearby.contains(other))
+				nearby.add(other);
+	}
+
+	public static long[] getSections(AxisAlignedBB area) {
+		int minX = SectionPos.toChunk((int) Math.floor(area.minX));
+		int minY = SectionPos.toChunk((int) Math.floor(area.minY));
+		int minZ = SectionPos.toChunk((int) Math.floor(area.minZ));
+		int maxX = SectionPos.toChunk((int) Math.floor(area.maxX));
+		int maxY = SectionPos.toChunk((int) Math.floor(area.maxY));
+		int maxZ = SectionPos.toChunk((int) Math.floor(area.maxZ));
+
+		LongSet sections = new LongOpenHashSet();
+		for (int x = minX; x <= maxX; x++)
+			for (int y = minY; y <= maxY; y++)
+				for (int z = minZ; z <= maxZ; z++)
+					sections.add(SectionPos.asLong(x, y, z));
+		return sections.toLongArray();
+	}
+
+}
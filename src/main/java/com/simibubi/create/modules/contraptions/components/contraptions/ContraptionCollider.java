@@ -1,7 +1,9 @@
 package com.simibubi.create.modules.contraptions.components.contraptions;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.simibubi.create.AllBlocks;
 import com.simibubi.create.modules.contraptions.components.actors.BlockBreakingMovementBehaviour;
@@ -23,6 +25,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.shapes.ISelectionContext;
 import net.minecraft.util.math.shapes.VoxelShape;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.template.Template.BlockInfo;
 import net.minecraftforge.api.distmarker.Dist;
@@ -32,11 +35,16 @@ import net.minecraftforge.fml.DistExecutor;
 public class ContraptionCollider {
 
 	static Map<Object, AxisAlignedBB> renderedBBs = new HashMap<>();
+	static Map<IWorld, ContraptionBroadphase> broadphases = new HashMap<>();
 	public static boolean wasClientPlayerGrounded;
 
 	public static void collideEntities(ContraptionEntity contraptionEntity) {
 		if (Contraption.isFrozen())
 			return;
+		if (contraptionEntity.rotatedCollisionEnabled()) {
+			collideEntitiesRotated(contraptionEntity);
+			return;
+		}
 		if (!contraptionEntity.collisionEnabled())
 			return;
 
@@ -55,10 +63,12 @@ public class ContraptionCollider {
 		for (Entity entity : world.getEntitiesWithinAABB((EntityType<?>) null, bounds.grow(1),
 				e -> canBeCollidedWith(e))) {
 
-			ReuseableStream<VoxelShape> potentialHits =
-				getPotentiallyCollidedShapes(world, contraption, contraptionPosition, entity);
-			if (potentialHits.createStream().count() == 0)
+			AxisAlignedBB blockScanBB = getBlockScanBB(contraptionPosition, entity);
+			ContraptionCollisionGrid grid = contraption.getCollisionGrid(world);
+			List<VoxelShape> regionShapes = grid.getRegionShapesWithin(blockScanBB);
+			if (regionShapes.isEmpty())
 				continue;
+			ReuseableStream<VoxelShape> potentialHits = new ReuseableStream<>(regionShapes.stream());
 
 			Vec3d positionOffset = contraptionPosition.scale(-1);
 			AxisAlignedBB entityBB = entity.getBoundingBox().offset(positionOffset).grow(1.0E-7D);
@@ -66,8 +76,8 @@ public class ContraptionCollider {
 			Vec3d relativeMotion = entityMotion.subtract(contraptionMotion);
 			Vec3d allowedMovement = Entity.getAllowedMovement(relativeMotion, entityBB, world,
 					ISelectionContext.forEntity(entity), potentialHits);
-			potentialHits.createStream()
-					.forEach(voxelShape -> pushEntityOutOfShape(entity, voxelShape, positionOffset, contraptionMotion));
+			for (VoxelShape voxelShape : grid.getBlockShapesWithin(blockScanBB))
+				pushEntityOutOfShape(entity, voxelShape, positionOffset, contraptionMotion);
 
 			contraptionEntity.collidingEntities.add(entity);
 
@@ -89,6 +99,90 @@ public class ContraptionCollider {
 
 	}
 
+	/**
+	 * Rotating contraptions are collided with in their own rotated frame. Entity
+	 * boxes are moved into that frame, pushed out of each block they overlap there
+	 * and carried along by the surface they are standing on.
+	 */
+	public static void collideEntitiesRotated(ContraptionEntity contraptionEntity) {
+		World world = contraptionEntity.getEntityWorld();
+		Contraption contraption = contraptionEntity.getContraption();
+		AxisAlignedBB bounds = contraptionEntity.getBoundingBox();
+		contraptionEntity.collidingEntities.clear();
+
+		if (contraption == null)
+			return;
+		if (bounds == null)
+			return;
+		ContraptionCollisionGrid grid = contraption.getCollisionGrid(world);
+		if (grid.isEmpty())
+			return;
+
+		for (Entity entity : world.getEntitiesWithinAABB((EntityType<?>) null, bounds.grow(1),
+				e -> canBeCollidedWith(e))) {
+
+			AxisAlignedBB entityBB = entity.getBoundingBox();
+			Vec3d localCenter = contraptionEntity.toLocalVector(entityBB.getCenter());
+			Vec3d extents = getRotatedExtents(contraptionEntity, entityBB);
+			AxisAlignedBB localBB = new AxisAlignedBB(localCenter.subtract(extents), localCenter.add(extents));
+
+			List<VoxelShape> shapes = grid.getBlockShapesWithin(localBB.grow(.5f));
+			if (shapes.isEmpty())
+				continue;
+
+			Vec3d push = Vec3d.ZERO;
+			for (VoxelShape voxelShape : shapes) {
+				AxisAlignedBB pushedBB = localBB;
+				if (!voxelShape.toBoundingBoxList().stream().anyMatch(pushedBB::intersects))
+					continue;
+				Vec3d offset = getPushOutVector(localBB, voxelShape);
+				localBB = localBB.offset(offset);
+				push = push.add(offset);
+			}
+			if (push.equals(Vec3d.ZERO))
+				continue;
+
+			contraptionEntity.collidingEntities.add(entity);
+			Vec3d globalPush = contraptionEntity.applyRotation(push, 1);
+			Vec3d normal = globalPush.normalize();
+
+			// Movement of the contraption's surface at the point of contact
+			Vec3d surfaceMotion = contraptionEntity.toGlobalVector(localCenter, 1)
+					.subtract(contraptionEntity.toGlobalVector(localCenter, 0));
+			Vec3d entityMotion = entity.getMotion();
+			double approach = entityMotion.subtract(surfaceMotion).dotProduct(normal);
+			if (approach < 0)
+				entityMotion = entityMotion.subtract(normal.scale(approach));
+
+			if (normal.y > .5f) {
+				globalPush = globalPush.add(surfaceMotion.x, 0, surfaceMotion.z);
+				entity.fall(entity.fallDistance, 1);
+				entity.fallDistance = 0;
+				entity.onGround = true;
+				DistExecutor.runWhenOn(Dist.CLIENT, () -> () -> checkForClientPlayerCollision(entity));
+			}
+
+			entity.move(MoverType.SELF, globalPush);
+			if (entity instanceof PlayerEntity && !world.isRemote)
+				continue;
+
+			entity.setMotion(entityMotion);
+			entity.velocityChanged = true;
+		}
+	}
+
+	/**
+	 * Half size of the box around an entity's bounding box after it has been
+	 * rotated into the frame of the contraption.
+	 */
+	private static Vec3d getRotatedExtents(ContraptionEntity contraptionEntity, AxisAlignedBB entityBB) {
+		Vec3d x = contraptionEntity.reverseRotation(new Vec3d(entityBB.getXSize() / 2, 0, 0));
+		Vec3d y = contraptionEntity.reverseRotation(new Vec3d(0, entityBB.getYSize() / 2, 0));
+		Vec3d z = contraptionEntity.reverseRotation(new Vec3d(0, 0, entityBB.getZSize() / 2));
+		return new Vec3d(Math.abs(x.x) + Math.abs(y.x) + Math.abs(z.x), Math.abs(x.y) + Math.abs(y.y) + Math.abs(z.y),
+				Math.abs(x.z) + Math.abs(y.z) + Math.abs(z.z));
+	}
+
 	public static boolean canBeCollidedWith(Entity e) {
 		if (e instanceof PlayerEntity && e.isSpectator())
 			return false;
@@ -114,6 +208,39 @@ public class ContraptionCollider {
 		if (!voxelShape.toBoundingBoxList().stream().anyMatch(entityBB::intersects))
 			return;
 
+		Vec3d push = getPushOutVector(entityBB, voxelShape);
+		Direction bestSide =
+			push.equals(Vec3d.ZERO) ? Direction.DOWN : Direction.getFacingFromVector(push.x, push.y, push.z);
+		entity.move(MoverType.SELF, push);
+		boolean positive = bestSide.getAxisDirection() == AxisDirection.POSITIVE;
+
+		double clamped;
+		switch (bestSide.getAxis()) {
+		case X:
+			clamped = positive ? Math.max(shapeMotion.x, entityMotion.x) : Math.min(shapeMotion.x, entityMotion.x);
+			entity.setMotion(clamped, entityMotion.y, entityMotion.z);
+			break;
+		case Y:
+			clamped = positive ? Math.max(shapeMotion.y, entityMotion.y) : Math.min(shapeMotion.y, entityMotion.y);
+			if (bestSide == Direction.UP)
+				clamped = shapeMotion.y;
+			entity.setMotion(entityMotion.x, clamped, entityMotion.z);
+			entity.fall(entity.fallDistance, 1);
+			entity.fallDistance = 0;
+			entity.onGround = true;
+			break;
+		case Z:
+			clamped = positive ? Math.max(shapeMotion.z, entityMotion.z) : Math.min(shapeMotion.z, entityMotion.z);
+			entity.setMotion(entityMotion.x, entityMotion.y, clamped);
+			break;
+		}
+	}
+
+	/**
+	 * Finds the shortest movement along one of the axes that moves the box out of
+	 * the shape.
+	 */
+	public static Vec3d getPushOutVector(AxisAlignedBB entityBB, VoxelShape voxelShape) {
 		AxisAlignedBB shapeBB = voxelShape.getBoundingBox();
 		Direction bestSide = Direction.DOWN;
 		double bestOffset = 100;
@@ -138,48 +265,11 @@ public class ContraptionCollider {
 			}
 		}
 
-		if (bestOffset != 0) {
-			entity.move(MoverType.SELF, new Vec3d(bestSide.getDirectionVec()).scale(finalOffset));
-			boolean positive = bestSide.getAxisDirection() == AxisDirection.POSITIVE;
-
-			double clamped;
-			switch (bestSide.getAxis()) {
-			case X:
-				clamped = positive ? Math.max(shapeMotion.x, entityMotion.x) : Math.min(shapeMotion.x, entityMotion.x);
-				entity.setMotion(clamped, entityMotion.y, entityMotion.z);
-				break;
-			case Y:
-				clamped = positive ? Math.max(shapeMotion.y, entityMotion.y) : Math.min(shapeMotion.y, entityMotion.y);
-				if (bestSide == Direction.UP)
-					clamped = shapeMotion.y;
-				entity.setMotion(entityMotion.x, clamped, entityMotion.z);
-				entity.fall(entity.fallDistance, 1);
-				entity.fallDistance = 0;
-				entity.onGround = true;
-				break;
-			case Z:
-				clamped = positive ? Math.max(shapeMotion.z, entityMotion.z) : Math.min(shapeMotion.z, entityMotion.z);
-				entity.setMotion(entityMotion.x, entityMotion.y, clamped);
-				break;
-			}
-		}
+		return new Vec3d(bestSide.getDirectionVec()).scale(finalOffset);
 	}
 
-	public static ReuseableStream<VoxelShape> getPotentiallyCollidedShapes(World world, Contraption contraption,
-			Vec3d contraptionPosition, Entity entity) {
-		AxisAlignedBB blockScanBB = entity.getBoundingBox().offset(contraptionPosition.scale(-1)).grow(.5f);
-		BlockPos min = new BlockPos(blockScanBB.minX, blockScanBB.minY, blockScanBB.minZ);
-		BlockPos max = new BlockPos(blockScanBB.maxX, blockScanBB.maxY, blockScanBB.maxZ);
-
-		ReuseableStream<VoxelShape> potentialHits =
-			new ReuseableStream<>(BlockPos.getAllInBox(min, max).filter(contraption.blocks::containsKey).map(p -> {
-				BlockState blockState = contraption.blocks.get(p).state;
-				BlockPos pos = contraption.blocks.get(p).pos;
-				VoxelShape collisionShape = blockState.getCollisionShape(world, p);
-				return collisionShape.withOffset(pos.getX(), pos.getY(), pos.getZ());
-			}));
-
-		return potentialHits;
+	public static AxisAlignedBB getBlockScanBB(Vec3d contraptionPosition, Entity entity) {
+		return entity.getBoundingBox().offset(contraptionPosition.scale(-1)).grow(.5f);
 	}
 
 	public static boolean collideBlocks(ContraptionEntity contraptionEntity) {
@@ -199,6 +289,9 @@ public class ContraptionCollider {
 			return false;
 		if (bounds == null)
 			return false;
+
+		ContraptionBroadphase broadphase = getBroadphase(world);
+		broadphase.add(contraptionEntity, bounds.expand(motion.x, motion.y, motion.z).grow(2), world.getGameTime());
 		if (motion.equals(Vec3d.ZERO))
 			return false;
 
@@ -207,12 +300,11 @@ public class ContraptionCollider {
 		// Blocks in the world
 		if (movementDirection.getAxisDirection() == AxisDirection.POSITIVE)
 			gridPos = gridPos.offset(movementDirection);
-		if (isCollidingWithWorld(world, contraption, gridPos, movementDirection))
+		if (isCollidingWithWorldCached(world, contraption, gridPos, movementDirection))
 			return true;
 
 		// Other moving Contraptions
-		for (ContraptionEntity otherContraptionEntity : world.getEntitiesWithinAABB(ContraptionEntity.class,
-				bounds.grow(1), e -> !e.equals(contraptionEntity))) {
+		for (ContraptionEntity otherContraptionEntity : broadphase.getNearby(contraptionEntity, bounds.grow(1))) {
 
 			if (!otherContraptionEntity.collisionEnabled())
 				continue;
@@ -241,6 +333,58 @@ public class ContraptionCollider {
 		return false;
 	}
 
+	/**
+	 * A contraption that found nothing in its way is not checked again until it
+	 * reaches another block position or the state of a block in front of its
+	 * colliders differs from the one seen by the last check.
+	 */
+	private static boolean isCollidingWithWorldCached(World world, Contraption contraption, BlockPos anchor,
+			Direction movementDirection) {
+		if (anchor.equals(contraption.clearWorldPos) && movementDirection == contraption.clearWorldDirection
+				&& isStillClear(world, contraption))
+			return false;
+
+		contraption.clearWorldPos = null;
+		if (isCollidingWithWorld(world, contraption, anchor, movementDirection))
+			return true;
+
+		Set<BlockPos> colliders = contraption.getColliders(world, movementDirection);
+		BlockPos[] targets = new BlockPos[colliders.size()];
+		BlockState[] states = new BlockState[targets.length];
+		int i = 0;
+		for (BlockPos pos : colliders) {
+			targets[i] = pos.add(anchor);
+			states[i] = world.getBlockState(targets[i]);
+			i++;
+		}
+
+		contraption.clearWorldPos = anchor;
+		contraption.clearWorldDirection = movementDirection;
+		contraption.clearWorldTargets = targets;
+		contraption.clearWorldStates = states;
+		return false;
+	}
+
+	private static boolean isStillClear(World world, Contraption contraption) {
+		BlockPos[] targets = contraption.clearWorldTargets;
+		BlockState[] states = contraption.clearWorldStates;
+		for (int i = 0; i < targets.length; i++) {
+			if (!world.isBlockPresent(targets[i]))
+				return false;
+			if (world.getBlockState(targets[i]) != states[i])
+				return false;
+		}
+		return true;
+	}
+
+	public static ContraptionBroadphase getBroadphase(IWorld world) {
+		return broadphases.computeIfAbsent(world, w -> new ContraptionBroadphase());
+	}
+
+	public static void onUnloadWorld(IWorld world) {
+		broadphases.remove(world);
+	}
+
 	public static boolean isCollidingWithWorld(World world, Contraption contraption, BlockPos anchor,
 			Direction movementDirection) {
 		for (BlockPos pos : contraption.getColliders(world, movementDirection)) {
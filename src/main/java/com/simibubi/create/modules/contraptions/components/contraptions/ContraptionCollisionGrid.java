@@ -0,0 +1,156 @@
+package com.simibubi.create.modules.contraptions.components.contraptions;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.shapes.VoxelShape;
+import net.minecraft.util.math.shapes.VoxelShapes;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.gen.feature.template.Template.BlockInfo;
+
+/**
+ * Occupancy of the solid blocks of a contraption in its local frame. The
+ * offset collision shape of every block is built once. The shapes of all blocks
+ * within a region of {@link #REGION_SIZE} blocks along every axis are also
+ * merged, so movement sweeps only need a few bit tests and a handful of shapes.
+ * <br>
+ * Merged regions are only fit for sweeping. Pushing an entity out of one would
+ * move it to the outside of the whole region, so push-out uses the shapes of
+ * single blocks instead.
+ */
+public class ContraptionCollisionGrid {
+
+	static final int REGION_SIZE = 4;
+
+	private int minX, minY, minZ;
+	private int sizeX, sizeY, sizeZ;
+	private int regionsX, regionsY, regionsZ;
+	private BitSet occupied;
+	private Int2ObjectMap<VoxelShape> blockShapes;
+	private VoxelShape[] regionShapes;
+
+	public ContraptionCollisionGrid(IBlockReader world, Map<BlockPos, BlockInfo> blocks) {
+		Map<BlockPos, VoxelShape> shapes = new HashMap<>();
+		minX = minY = minZ = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+
+		for (BlockInfo info : blocks.values()) {
+			VoxelShape shape = info.state.getCollisionShape(world, info.pos);
+			if (shape.isEmpty())
+				continue;
+			BlockPos pos = info.pos;
+			shapes.put(pos, shape.withOffset(pos.getX(), pos.getY(), pos.getZ()));
+			minX = Math.min(minX, pos.getX());
+			minY = Math.min(minY, pos.getY());
+			minZ = Math.min(minZ, pos.getZ());
+			maxX = Math.max(maxX, pos.getX());
+			maxY = Math.max(maxY, pos.getY());
+			maxZ = Math.max(maxZ, pos.getZ());
+		}
+
+		occupied = new BitSet();
+		blockShapes = new Int2ObjectOpenHashMap<>(shapes.size());
+		if (shapes.isEmpty()) {
+			regionShapes = new VoxelShape[0];
+			return;
+		}
+
+		sizeX = maxX - minX + 1;
+		sizeY = maxY - minY + 1;
+		sizeZ = maxZ - minZ + 1;
+		regionsX = (sizeX + REGION_SIZE - 1) / REGION_SIZE;
+		regionsY = (sizeY + REGION_SIZE - 1) / REGION_SIZE;
+		regionsZ = (sizeZ + REGION_SIZE - 1) / REGION_SIZE;
+		regionShapes = new VoxelShape[regionsX * regionsY * regionsZ];
+
+		for (Map.Entry<BlockPos, VoxelShape> entry : shapes.entrySet()) {
+			BlockPos pos = entry.getKey();
+			int x = pos.getX() - minX;
+			int y = pos.getY() - minY;
+			int z = pos.getZ() - minZ;
+			int index = index(x, y, z);
+			occupied.set(index);
+			blockShapes.put(index, entry.getValue());
+			int region = regionIndex(x / REGION_SIZE, y / REGION_SIZE, z / REGION_SIZE);
+			VoxelShape regionShape = regionShapes[region];
+			regionShapes[region] =
+				regionShape == null ? entry.getValue() : VoxelShapes.or(regionShape, entry.getValue());
+		}
+	}
+
+	public boolean isEmpty() {
+		return regionShapes.length == 0;
+	}
+
+	public boolean isOccupied(int x, int y, int z) {
+		x -= minX;
+		y -= minY;
+		z -= minZ;
+		if (x < 0 || y < 0 || z < 0 || x >= sizeX || y >= sizeY || z >= sizeZ)
+			return false;
+		return occupied.get(index(x, y, z));
+	}
+
+	/**
+	 * Collects the merged shapes of all regions with a solid block inside the
+	 * given box of the contraption's local frame.
+	 */
+	public List<VoxelShape> getRegionShapesWithin(AxisAlignedBB localBB) {
+		return getShapesWithin(localBB, true);
+	}
+
+	/**
+	 * Collects the offset shapes of all solid blocks inside the given box of the
+	 * contraption's local frame.
+	 */
+	public List<VoxelShape> getBlockShapesWithin(AxisAlignedBB localBB) {
+		return getShapesWithin(localBB, false);
+	}
+
+	private List<VoxelShape> getShapesWithin(AxisAlignedBB localBB, boolean regions) {
+		List<VoxelShape> shapes = new ArrayList<>();
+		if (isEmpty())
+			return shapes;
+
+		int fromX = Math.max(MathHelper.floor(localBB.minX) - minX, 0);
+		int fromY = Math.max(MathHelper.floor(localBB.minY) - minY, 0);
+		int fromZ = Math.max(MathHelper.floor(localBB.minZ) - minZ, 0);
+		int toX = Math.min(MathHelper.floor(localBB.maxX) - minX, sizeX - 1);
+		int toY = Math.min(MathHelper.floor(localBB.maxY) - minY, sizeY - 1);
+		int toZ = Math.min(MathHelper.floor(localBB.maxZ) - minZ, sizeZ - 1);
+
+		for (int x = fromX; x <= toX; x++)
+			for (int y = fromY; y <= toY; y++)
+				for (int z = fromZ; z <= toZ; z++) {
+					int index = index(x, y, z);
+					if (!occupied.get(index))
+						continue;
+					if (!regions) {
+						shapes.add(blockShapes.get(index));
+						continue;
+					}
+					VoxelShape shape = regionShapes[regionIndex(x / REGION_SIZE, y / REGION_SIZE, z / REGION_SIZE)];
+					if (!shapes.contains(shape))
+						shapes.add(shape);
+				}
+
+		return shapes;
+	}
+
+	private int index(int x, int y, int z) {
+		return (x * sizeY + y) * sizeZ + z;
+	}
+
+	private int regionIndex(int x, int y, int z) {
+		return (x * regionsY + y) * regionsZ + z;
+	}
+
+}
@@ -12,8 +12,10 @@ import org.apache.commons.lang3.tuple.MutablePair;
 import com.google.common.collect.ImmutableSet;
 import com.simibubi.create.AllEntities;
 import com.simibubi.create.AllPackets;
+import com.simibubi.create.config.AllConfigs;
 import com.simibubi.create.foundation.utility.VecHelper;
 import com.simibubi.create.modules.contraptions.components.contraptions.bearing.BearingContraption;
+import com.simibubi.create.modules.contraptions.components.contraptions.bearing.IBearingTileEntity;
 import com.simibubi.create.modules.contraptions.components.contraptions.piston.LinearActuatorTileEntity;
 
 import net.minecraft.block.material.PushReaction;
@@ -32,9 +34,11 @@ import net.minecraft.network.datasync.DataSerializers;
 import net.minecraft.network.datasync.EntityDataManager;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.Direction.Axis;
 import net.minecraft.util.ReuseableStream;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.shapes.IBooleanFunction;
 import net.minecraft.util.math.shapes.ISelectionContext;
@@ -59,6 +63,9 @@ public class ContraptionEntity extends Entity implements IEntityAdditionalSpawnD
 
 	final List<Entity> collidingEntities = new ArrayList<>();
 
+	private Vec3d actorRotation = Vec3d.ZERO;
+	private final BlockPos.MutableBlockPos actorGridPosition = new BlockPos.MutableBlockPos();
+
 	private static final DataParameter<Boolean> STALLED =
 		EntityDataManager.createKey(ContraptionEntity.class, DataSerializers.BOOLEAN);
 
@@ -120,6 +127,33 @@ public class ContraptionEntity extends Entity implements IEntityAdditionalSpawnD
 		return getController() instanceof LinearActuatorTileEntity;
 	}
 
+	public boolean rotatedCollisionEnabled() {
+		return AllConfigs.SERVER.kinetics.rotatedContraptionCollisions.get()
+				&& getController() instanceof IBearingTileEntity;
+	}
+
+	public Vec3d applyRotation(Vec3d localVec, float partialTicks) {
+		return VecHelper.rotate(localVec, getRoll(partialTicks), getYaw(partialTicks), getPitch(partialTicks));
+	}
+
+	public Vec3d reverseRotation(Vec3d globalVec) {
+		globalVec = VecHelper.rotate(globalVec, -getPitch(1), Axis.Z);
+		globalVec = VecHelper.rotate(globalVec, -getYaw(1), Axis.Y);
+		return VecHelper.rotate(globalVec, -getRoll(1), Axis.X);
+	}
+
+	public Vec3d toGlobalVector(Vec3d localVec, float partialTicks) {
+		Vec3d rotationOffset = VecHelper.getCenterOf(BlockPos.ZERO);
+		localVec = applyRotation(localVec.subtract(rotationOffset), partialTicks);
+		return localVec.add(rotationOffset).add(getPositionVec());
+	}
+
+	public Vec3d toLocalVector(Vec3d globalVec) {
+		Vec3d rotationOffset = VecHelper.getCenterOf(BlockPos.ZERO);
+		globalVec = reverseRotation(globalVec.subtract(getPositionVec()).subtract(rotationOffset));
+		return globalVec.add(rotationOffset);
+	}
+
 	@Override
 	public void tick() {
 		if (contraption == null) {
@@ -195,66 +229,100 @@ public class ContraptionEntity extends Entity implements IEntityAdditionalSpawnD
 		float anglePitch = getPitch(1);
 		float angleYaw = getYaw(1);
 		float angleRoll = getRoll(1);
-		Vec3d rotationVec = new Vec3d(angleRoll, angleYaw, anglePitch);
-		Vec3d rotationOffset = VecHelper.getCenterOf(BlockPos.ZERO);
+		boolean rotated = actorRotation.x != angleRoll || actorRotation.y != angleYaw || actorRotation.z != anglePitch;
+		if (rotated)
+			actorRotation = new Vec3d(angleRoll, angleYaw, anglePitch);
 		boolean stalledPreviously = contraption.stalled;
 
-		if (!world.isRemote)
+		if (!world.isRemote) {
 			contraption.stalled = false;
+			contraption.batchDrops();
+		}
+
+		double sinX = sin(angleRoll), cosX = cos(angleRoll);
+		double sinY = sin(angleYaw), cosY = cos(angleYaw);
+		double sinZ = sin(anglePitch), cosZ = cos(anglePitch);
 
 		for (MutablePair<BlockInfo, MovementContext> pair : contraption.actors) {
 			MovementContext context = pair.right;
 			BlockInfo blockInfo = pair.left;
 			MovementBehaviour actor = Contraption.getMovement(blockInfo.state);
 
-			Vec3d actorPosition = new Vec3d(blockInfo.pos);
-			actorPosition = actorPosition.add(actor.getActiveAreaOffset(context));
-			actorPosition = VecHelper.rotate(actorPosition, angleRoll, angleYaw, anglePitch);
-			actorPosition = actorPosition.add(rotationOffset).add(posX, posY, posZ);
+			if (context.activeAreaOffset == null)
+				context.activeAreaOffset = actor.getActiveAreaOffset(context);
+			Vec3d activeAreaOffset = context.activeAreaOffset;
+
+			// Same rotation as VecHelper.rotate, without the intermediate vectors
+			double x = blockInfo.pos.getX() + activeAreaOffset.x;
+			double y = blockInfo.pos.getY() + activeAreaOffset.y;
+			double z = blockInfo.pos.getZ() + activeAreaOffset.z;
+			double t = y * cosX - z * sinX;
+			z = z * cosX + y * sinX;
+			y = t;
+			t = x * cosY + z * sinY;
+			z = z * cosY - x * sinY;
+			x = t;
+			t = x * cosZ - y * sinZ;
+			y = y * cosZ + x * sinZ;
+			x = t;
+			x += .5 + posX;
+			y += .5 + posY;
+			z += .5 + posZ;
 
 			boolean newPosVisited = false;
-			BlockPos gridPosition = new BlockPos(actorPosition);
+			actorGridPosition.setPos(x, y, z);
 
 			if (!stalledPreviously) {
 				Vec3d previousPosition = context.position;
 				if (previousPosition != null) {
-					context.motion = actorPosition.subtract(previousPosition);
-					Vec3d relativeMotion = context.motion;
-					relativeMotion = VecHelper.rotate(relativeMotion, -angleRoll, -angleYaw, -anglePitch);
-					context.relativeMotion = relativeMotion;
-					newPosVisited = !new BlockPos(previousPosition).equals(gridPosition)
+					double motionX = x - previousPosition.x;
+					double motionY = y - previousPosition.y;
+					double motionZ = z - previousPosition.z;
+					boolean moved =
+						context.motion.x != motionX || context.motion.y != motionY || context.motion.z != motionZ;
+					if (moved)
+						context.motion = new Vec3d(motionX, motionY, motionZ);
+					if (moved || rotated)
+						context.relativeMotion = VecHelper.rotate(context.motion, -angleRoll, -angleYaw, -anglePitch);
+					newPosVisited = MathHelper.floor(previousPosition.x) != actorGridPosition.getX()
+							|| MathHelper.floor(previousPosition.y) != actorGridPosition.getY()
+							|| MathHelper.floor(previousPosition.z) != actorGridPosition.getZ()
 							|| context.relativeMotion.length() > 0 && context.firstMovement;
 				}
 
 				if (getContraption() instanceof BearingContraption) {
 					BearingContraption bc = (BearingContraption) getContraption();
 					Direction facing = bc.getFacing();
-					Vec3d activeAreaOffset = actor.getActiveAreaOffset(context);
-					if (activeAreaOffset.mul(VecHelper.planeByNormal(new Vec3d(facing.getDirectionVec())))
-							.equals(Vec3d.ZERO)) {
-						if (VecHelper.onSameAxis(blockInfo.pos, BlockPos.ZERO, facing.getAxis())) {
-							context.motion = new Vec3d(facing.getDirectionVec()).scale(
-									facing.getAxis().getCoordinate(roll - prevRoll, yaw - prevYaw, pitch - prevPitch));
-							context.relativeMotion = context.motion;
-							int timer = context.data.getInt("StationaryTimer");
-							if (timer > 0) {
-								context.data.putInt("StationaryTimer", timer - 1);
-							} else {
-								context.data.putInt("StationaryTimer", 20);
-								newPosVisited = true;
-							}
+					Axis axis = facing.getAxis();
+					boolean onAxis = (axis == Axis.X || activeAreaOffset.x == 0)
+							&& (axis == Axis.Y || activeAreaOffset.y == 0) && (axis == Axis.Z || activeAreaOffset.z == 0);
+					if (onAxis && VecHelper.onSameAxis(blockInfo.pos, BlockPos.ZERO, axis)) {
+						double speed = axis.getCoordinate(roll - prevRoll, yaw - prevYaw, pitch - prevPitch);
+						double motionX = facing.getXOffset() * speed;
+						double motionY = facing.getYOffset() * speed;
+						double motionZ = facing.getZOffset() * speed;
+						if (context.motion.x != motionX || context.motion.y != motionY || context.motion.z != motionZ)
+							context.motion = new Vec3d(motionX, motionY, motionZ);
+						context.relativeMotion = context.motion;
+						int timer = context.data.getInt("StationaryTimer");
+						if (timer > 0) {
+							context.data.putInt("StationaryTimer", timer - 1);
+						} else {
+							context.data.putInt("StationaryTimer", 20);
+							newPosVisited = true;
 						}
 					}
-
 				}
 			}
 
-			context.rotation = rotationVec;
-			context.position = actorPosition;
+			context.rotation = actorRotation;
+			Vec3d position = context.position;
+			if (position == null || position.x != x || position.y != y || position.z != z)
+				context.position = new Vec3d(x, y, z);
 
 			if (actor.isActive(context)) {
 				if (newPosVisited && !context.stall) {
-					actor.visitNewPosition(context, gridPosition);
+					actor.visitNewPosition(context, actorGridPosition.toImmutable());
 					context.firstMovement = false;
 				}
 				actor.tick(context);
@@ -262,6 +330,9 @@ public class ContraptionEntity extends Entity implements IEntityAdditionalSpawnD
 			}
 		}
 
+		if (!world.isRemote)
+			contraption.flushDrops();
+
 		if (!world.isRemote) {
 			if (!stalledPreviously && contraption.stalled) {
 				setMotion(Vec3d.ZERO);
@@ -276,6 +347,14 @@ public class ContraptionEntity extends Entity implements IEntityAdditionalSpawnD
 		}
 	}
 
+	private static double sin(double deg) {
+		return deg == 0 ? 0 : MathHelper.sin((float) (deg / 180f * Math.PI));
+	}
+
+	private static double cos(double deg) {
+		return deg == 0 ? 1 : MathHelper.cos((float) (deg / 180f * Math.PI));
+	}
+
 	public void move(double x, double y, double z) {
 		setPosition(posX + x, posY + y, posZ + z);
 	}
@@ -415,12 +494,16 @@ public class ContraptionEntity extends Entity implements IEntityAdditionalSpawnD
 	public void writeSpawnData(PacketBuffer buffer) {
 		CompoundNBT compound = new CompoundNBT();
 		writeAdditional(compound);
+		compound.getCompound("Contraption").remove("BlockPalette");
 		buffer.writeCompoundTag(compound);
+		buffer.writeBytes(getContraption().getBlocksPayload());
 	}
 
 	@Override
 	public void readSpawnData(PacketBuffer additionalData) {
-		readAdditional(additionalData.readCompoundTag());
+		CompoundNBT compound = additionalData.readCompoundTag();
+		compound.getCompound("Contraption").put("BlockPalette", additionalData.readCompoundTag());
+		readAdditional(compound);
 	}
 
 	public void disassemble() {
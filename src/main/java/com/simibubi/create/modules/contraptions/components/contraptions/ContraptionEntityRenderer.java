@@ -19,6 +19,8 @@ import net.minecraft.util.math.Vec3d;
 
 public class ContraptionEntityRenderer extends EntityRenderer<ContraptionEntity> {
 
+	private static final int RENDER_TES_PER_FRAME = 16;
+
 	public ContraptionEntityRenderer(EntityRendererManager rendererManager) {
 		super(rendererManager);
 	}
@@ -80,7 +82,7 @@ public class ContraptionEntityRenderer extends EntityRenderer<ContraptionEntity>
 		TessellatorHelper.prepareFastRender();
 		GlStateManager.enableCull();
 		TessellatorHelper.begin(DefaultVertexFormats.BLOCK);
-		ContraptionRenderer.render(entity.world, entity.getContraption(), superByteBuffer -> {
+		ContraptionRenderer.render(entity.world, entity.getContraption(), entity.getBoundingBox(), superByteBuffer -> {
 			superByteBuffer.translate(-rotationOffset.x, -rotationOffset.y, -rotationOffset.z);
 			superByteBuffer.rotate(Axis.X, angleRoll);
 			superByteBuffer.rotate(Axis.Y, angleYaw);
@@ -92,6 +94,7 @@ public class ContraptionEntityRenderer extends EntityRenderer<ContraptionEntity>
 		}, Tessellator.getInstance().getBuffer());
 		TessellatorHelper.draw();
 
+		entity.getContraption().createPendingRenderTEs(entity.world, RENDER_TES_PER_FRAME);
 		if (!entity.getContraption().customRenderTEs.isEmpty()) {
 			GlStateManager.pushMatrix();
 			GlStateManager.translated(x, y, z);
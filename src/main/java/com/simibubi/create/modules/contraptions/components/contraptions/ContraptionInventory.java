@@ -0,0 +1,123 @@
+package com.simibubi.create.modules.contraptions.components.contraptions;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntRBTreeSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandlerModifiable;
+import net.minecraftforge.items.wrapper.CombinedInvWrapper;
+
+/**
+ * Combined inventory of all mounted storages of a contraption. Keeps track of
+ * its empty slots and of the slots that still have room, grouped by a hash of
+ * item and tag, so {@link #insertIndexed(ItemStack)} only visits slots that can
+ * actually take the stack.
+ * <br>
+ * The index follows every change made through this wrapper. Slots it missed
+ * are verified on insertion and corrected on the way.
+ */
+public class ContraptionInventory extends CombinedInvWrapper {
+
+	private Int2ObjectMap<IntSortedSet> partialSlots;
+	private IntSortedSet freeSlots;
+	private int[] slotKeys;
+
+	public ContraptionInventory(IItemHandlerModifiable... handlers) {
+		super(handlers);
+		partialSlots = new Int2ObjectOpenHashMap<>();
+		freeSlots = new IntRBTreeSet();
+		slotKeys = new int[getSlots()];
+		for (int slot = 0; slot < slotKeys.length; slot++)
+			updateSlot(slot);
+	}
+
+	/**
+	 * Inserts the stack into slots already holding the same item first, then into
+	 * empty slots in order.
+	 *
+	 * @return the part of the stack that did not fit
+	 */
+	public ItemStack insertIndexed(ItemStack stack) {
+		if (stack.isEmpty())
+			return stack;
+
+		IntSortedSet partial = partialSlots.get(getKey(stack));
+		if (partial != null && !partial.isEmpty()) {
+			for (int slot : partial.toIntArray()) {
+				stack = insertItem(slot, stack, false);
+				if (stack.isEmpty())
+					return stack;
+			}
+		}
+
+		int slot = -1;
+		while (!stack.isEmpty()) {
+			IntSortedSet candidates = slot == -1 ? freeSlots : freeSlots.tailSet(slot + 1);
+			if (candidates.isEmpty())
+				break;
+			slot = candidates.firstInt();
+			stack = insertItem(slot, stack, false);
+		}
+
+		return stack;
+	}
+
+	@Override
+	public void setStackInSlot(int slot, ItemStack stack) {
+		super.setStackInSlot(slot, stack);
+		updateSlot(slot);
+	}
+
+	@Override
+	public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
+		ItemStack remainder = super.insertItem(slot, stack, simulate);
+		if (!simulate)
+			updateSlot(slot);
+		return remainder;
+	}
+
+	@Override
+	public ItemStack extractItem(int slot, int amount, boolean simulate) {
+		ItemStack extracted = super.extractItem(slot, amount, simulate);
+		if (!simulate)
+			updateSlot(slot);
+		return extracted;
+	}
+
+	private void updateSlot(int slot) {
+		if (slot < 0 || slot >= slotKeys.length)
+			return;
+
+		freeSlots.remove(slot);
+		IntSortedSet previous = partialSlots.get(slotKeys[slot]);
+		if (previous != null && previous.remove(slot) && previous.isEmpty())
+			partialSlots.remove(slotKeys[slot]);
+
+		ItemStack stack = getStackInSlot(slot);
+		if (stack.isEmpty()) {
+			freeSlots.add(slot);
+			return;
+		}
+		if (stack.getCount() >= Math.min(getSlotLimit(slot), stack.getMaxStackSize()))
+			return;
+
+		int key = getKey(stack);
+		IntSortedSet slots = partialSlots.get(key);
+		if (slots == null) {
+			slots = new IntRBTreeSet();
+			partialSlots.put(key, slots);
+		}
+		slots.add(slot);
+		slotKeys[slot] = key;
+	}
+
+	private static int getKey(ItemStack stack) {
+		int key = Item.getIdFromItem(stack.getItem());
+		if (stack.hasTag())
+			key = key * 31 + stack.getTag().hashCode();
+		return key;
+	}
+
+}
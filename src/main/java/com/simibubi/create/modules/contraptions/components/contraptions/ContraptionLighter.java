@@ -0,0 +1,104 @@
+package com.simibubi.create.modules.contraptions.components.contraptions;
+
+import com.simibubi.create.foundation.utility.SuperByteBuffer.IVertexLighter;
+
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.LightType;
+import net.minecraft.world.World;
+
+/**
+ * Copy of the world light around a contraption, taken at most once per game
+ * tick and whenever the contraption moves into other blocks. Vertices are lit
+ * with the same eight samples as {@link ContraptionRenderer#getLight}, but read
+ * them from the copy instead of the world. Samples outside of the copied volume
+ * fall back to the world.
+ */
+public class ContraptionLighter implements IVertexLighter {
+
+	private static final int MAX_VOLUME = 1 << 18;
+	private static final float OFFSET = 1 / 8f;
+
+	private World world;
+	private long sampledTick;
+	private int minX, minY, minZ;
+	private int sizeX, sizeY, sizeZ;
+	private byte[] sky;
+	private byte[] block;
+	private MutableBlockPos pos;
+
+	public ContraptionLighter() {
+		sky = new byte[0];
+		block = new byte[0];
+		pos = new MutableBlockPos();
+		sampledTick = Long.MIN_VALUE;
+	}
+
+	public void update(World world, AxisAlignedBB area) {
+		int minX = MathHelper.floor(area.minX) - 1;
+		int minY = MathHelper.floor(area.minY) - 1;
+		int minZ = MathHelper.floor(area.minZ) - 1;
+		int sizeX = MathHelper.floor(area.maxX) + 2 - minX;
+		int sizeY = MathHelper.floor(area.maxY) + 2 - minY;
+		int sizeZ = MathHelper.floor(area.maxZ) + 2 - minZ;
+		long tick = world.getGameTime();
+
+		if (world == this.world && tick == sampledTick && minX == this.minX && minY == this.minY
+				&& minZ == this.minZ && sizeX == this.sizeX && sizeY == this.sizeY && sizeZ == this.sizeZ)
+			return;
+
+		this.world = world;
+		this.sampledTick = tick;
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+
+		int volume = sizeX * sizeY * sizeZ;
+		if (volume > MAX_VOLUME) {
+			this.sizeX = this.sizeY = this.sizeZ = 0;
+			return;
+		}
+
+		this.sizeX = sizeX;
+		this.sizeY = sizeY;
+		this.sizeZ = sizeZ;
+		if (sky.length < volume) {
+			sky = new byte[volume];
+			block = new byte[volume];
+		}
+
+		int index = 0;
+		for (int x = 0; x < sizeX; x++)
+			for (int y = 0; y < sizeY; y++)
+				for (int z = 0; z < sizeZ; z++) {
+					pos.setPos(minX + x, minY + y, minZ + z);
+					sky[index] = (byte) world.getLightFor(LightType.SKY, pos);
+					block[index] = (byte) world.getLightFor(LightType.BLOCK, pos);
+					index++;
+				}
+	}
+
+	@Override
+	public int getPackedLight(float x, float y, float z) {
+		if (world == null)
+			return 0;
+
+		int x0 = MathHelper.floor(x - OFFSET) - minX, x1 = MathHelper.floor(x + OFFSET) - minX;
+		int y0 = MathHelper.floor(y - OFFSET) - minY, y1 = MathHelper.floor(y + OFFSET) - minY;
+		int z0 = MathHelper.floor(z - OFFSET) - minZ, z1 = MathHelper.floor(z + OFFSET) - minZ;
+		if (x0 < 0 || y0 < 0 || z0 < 0 || x1 >= sizeX || y1 >= sizeY || z1 >= sizeZ)
+			return ContraptionRenderer.getLight(world, x, y, z);
+
+		int skySum = 0, blockSum = 0;
+		for (int i = 0; i < 8; i++) {
+			int index = (((i & 1) == 0 ? x0 : x1) * sizeY + ((i & 2) == 0 ? y0 : y1)) * sizeZ
+					+ ((i & 4) == 0 ? z0 : z1);
+			skySum += sky[index];
+			blockSum += block[index];
+		}
+
+		return (skySum >> 3) << 20 | (blockSum >> 3) << 4;
+	}
+
+}
@@ -30,6 +30,7 @@ import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.crash.ReportedException;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.util.math.Vec3d;
@@ -40,14 +41,19 @@ import net.minecraftforge.client.model.data.EmptyModelData;
 
 public class ContraptionRenderer {
 
-	public static final Compartment<Contraption> CONTRAPTION = new Compartment<>();
+	public static final Compartment<Contraption> CONTRAPTION = new Compartment<>("contraption");
 	protected static PlacementSimulationWorld renderWorld;
 	protected static LightingWorld lightingWorld;
 
-	public static void render(World world, Contraption c, Consumer<SuperByteBuffer> transform, BufferBuilder buffer) {
+	public static void render(World world, Contraption c, AxisAlignedBB area, Consumer<SuperByteBuffer> transform,
+			BufferBuilder buffer) {
+		if (c.lighter == null)
+			c.lighter = new ContraptionLighter();
+		c.lighter.update(world, area);
+
 		SuperByteBuffer contraptionBuffer = CreateClient.bufferCache.get(CONTRAPTION, c, () -> renderContraption(c));
 		transform.accept(contraptionBuffer);
-		contraptionBuffer.light((lx, ly, lz) -> getLight(world, lx, ly, lz)).renderInto(buffer);
+		contraptionBuffer.light(c.lighter).renderInto(buffer);
 		renderActors(world, c, transform, buffer);
 	}
 
@@ -152,7 +158,7 @@ public class ContraptionRenderer {
 
 				render.translate(posX, posY, posZ);
 				transform.accept(render);
-				render.light((lx, ly, lz) -> getLight(world, lx, ly, lz)).renderInto(buffer);
+				render.light(c.lighter).renderInto(buffer);
 			}
 		}
 	}
@@ -11,7 +11,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
-import net.minecraftforge.items.ItemHandlerHelper;
 
 public abstract class MovementBehaviour {
 
@@ -22,6 +21,14 @@ public abstract class MovementBehaviour {
 	public void tick(MovementContext context) {
 	}
 
+	/**
+	 * @return the typed state kept for every actor of this behaviour, or null if
+	 *         it does not need any
+	 */
+	public MovementState createState(MovementContext context) {
+		return null;
+	}
+
 	public void startMoving(MovementContext context) {
 	}
 
@@ -33,7 +40,9 @@ public abstract class MovementBehaviour {
 	}
 
 	public void dropItem(MovementContext context, ItemStack stack) {
-		ItemStack remainder = ItemHandlerHelper.insertItem(context.contraption.inventory, stack, false);
+		if (context.contraption.queueDrop(context, stack))
+			return;
+		ItemStack remainder = context.contraption.inventory.insertIndexed(stack);
 		if (remainder.isEmpty())
 			return;
 
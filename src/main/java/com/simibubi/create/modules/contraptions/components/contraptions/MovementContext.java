@@ -24,6 +24,9 @@ public class MovementContext {
 	public CompoundNBT data;
 	public Contraption contraption;
 	public Object temporaryData;
+	public MovementState movementState;
+
+	Vec3d activeAreaOffset;
 
 	public MovementContext(World world, BlockInfo info) {
 		this.world = world;
@@ -37,6 +40,15 @@ public class MovementContext {
 		position = null;
 		data = new CompoundNBT();
 		stall = false;
+
+		MovementBehaviour behaviour = Contraption.getMovement(state);
+		if (behaviour != null)
+			movementState = behaviour.createState(this);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T extends MovementState> T getState() {
+		return (T) movementState;
 	}
 
 	public float getAnimationSpeed() {
@@ -59,6 +71,8 @@ public class MovementContext {
 		context.stall = nbt.getBoolean("Stall");
 		context.firstMovement = nbt.getBoolean("FirstMovement");
 		context.data = nbt.getCompound("Data");
+		if (context.movementState != null)
+			context.movementState.read(context.data);
 		return context;
 	}
 
@@ -70,6 +84,8 @@ public class MovementContext {
 			nbt.put("Position", VecHelper.writeNBT(position));
 		nbt.putBoolean("Stall", stall);
 		nbt.putBoolean("FirstMovement", firstMovement);
+		if (movementState != null)
+			movementState.write(data);
 		nbt.put("Data", data);
 		return nbt;
 	}
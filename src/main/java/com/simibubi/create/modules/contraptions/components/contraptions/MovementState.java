@@ -0,0 +1,16 @@
+package com.simibubi.create.modules.contraptions.components.contraptions;
+
+import net.minecraft.nbt.CompoundNBT;
+
+/**
+ * Typed per-actor state of a {@link MovementBehaviour}. Behaviours work on its
+ * fields while ticking, it is only transferred from and into the
+ * {@link MovementContext#data} when the contraption is loaded or saved.
+ */
+public abstract class MovementState {
+
+	public abstract void read(CompoundNBT data);
+
+	public abstract void write(CompoundNBT data);
+
+}
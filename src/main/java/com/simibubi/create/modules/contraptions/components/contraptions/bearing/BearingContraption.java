@@ -23,19 +23,25 @@ public class BearingContraption extends Contraption {
 		return AllContraptionTypes.BEARING;
 	}
 
-	public static BearingContraption assembleBearingAt(World world, BlockPos pos, Direction direction) {
+	public static BearingContraption startAssemblyAt(World world, BlockPos pos, Direction direction) {
 		if (isFrozen())
 			return null;
 		BearingContraption construct = new BearingContraption();
 		construct.facing = direction;
 		BlockPos offset = pos.offset(direction);
-		if (!construct.searchMovedStructure(world, offset, null))
+		if (!construct.startSearch(world, offset, null))
 			return null;
-		construct.initActors(world);
-		construct.expandBoundsAroundAxis(direction.getAxis());
 		return construct;
 	}
 
+	public boolean finishAssembly(World world) {
+		if (!capturePending(world))
+			return false;
+		initActors(world);
+		expandBoundsAroundAxis(facing.getAxis());
+		return true;
+	}
+
 	@Override
 	public void add(BlockPos pos, Pair<BlockInfo, TileEntity> capture) {
 		BlockPos localPos = pos.subtract(anchor);
@@ -79,6 +79,10 @@ public class ClockworkBearingTileEntity extends KineticTileEntity implements IBe
 		}
 
 		applyRotations();
+		if (hourHand != null)
+			hourHand.collisionTick();
+		if (minuteHand != null)
+			minuteHand.collisionTick();
 	}
 
 	protected void applyRotations() {
@@ -1,7 +1,7 @@
 package com.simibubi.create.modules.contraptions.components.contraptions.bearing;
 
 import java.util.HashSet;
-import java.util.List;
+import java.util.Queue;
 import java.util.Set;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -10,6 +10,7 @@ import com.simibubi.create.foundation.utility.NBTHelper;
 import com.simibubi.create.modules.contraptions.components.contraptions.AllContraptionTypes;
 import com.simibubi.create.modules.contraptions.components.contraptions.Contraption;
 
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -81,8 +82,8 @@ public class ClockworkContraption extends Contraption {
 	}
 
 	@Override
-	protected boolean moveBlock(World world, BlockPos pos, Direction direction, List<BlockPos> frontier,
-			Set<BlockPos> visited) {
+	protected boolean moveBlock(World world, BlockPos pos, Direction direction, Queue<BlockPos> frontier,
+			LongSet visited) {
 		if (ignoreBlocks.contains(pos))
 			return true;
 		return super.moveBlock(world, pos, direction, frontier, visited);
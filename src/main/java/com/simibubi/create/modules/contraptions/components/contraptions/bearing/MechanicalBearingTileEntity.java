@@ -5,6 +5,7 @@ import static net.minecraft.state.properties.BlockStateProperties.FACING;
 import java.util.List;
 
 import com.simibubi.create.AllTileEntities;
+import com.simibubi.create.config.AllConfigs;
 import com.simibubi.create.foundation.behaviour.ValueBoxTransform;
 import com.simibubi.create.foundation.behaviour.base.TileEntityBehaviour;
 import com.simibubi.create.foundation.behaviour.scrollvalue.ScrollOptionBehaviour;
@@ -13,6 +14,7 @@ import com.simibubi.create.foundation.utility.Lang;
 import com.simibubi.create.foundation.utility.ServerSpeedProvider;
 import com.simibubi.create.modules.contraptions.base.GeneratingKineticTileEntity;
 import com.simibubi.create.modules.contraptions.components.contraptions.Contraption;
+import com.simibubi.create.modules.contraptions.components.contraptions.Contraption.SearchState;
 import com.simibubi.create.modules.contraptions.components.contraptions.ContraptionEntity;
 import com.simibubi.create.modules.contraptions.components.contraptions.DirectionalExtenderScrollOptionSlot;
 
@@ -32,6 +34,7 @@ public class MechanicalBearingTileEntity extends GeneratingKineticTileEntity imp
 	protected float angle;
 	protected boolean running;
 	protected boolean assembleNextTick;
+	protected BearingContraption pendingContraption;
 	protected float clientAngleDiff;
 	protected ScrollOptionBehaviour<RotationMode> movementMode;
 	protected float lastGeneratedSpeed;
@@ -83,6 +86,7 @@ public class MechanicalBearingTileEntity extends GeneratingKineticTileEntity imp
 
 	@Override
 	public void remove() {
+		pendingContraption = null;
 		if (!world.isRemote)
 			disassemble();
 		super.remove();
@@ -151,15 +155,39 @@ public class MechanicalBearingTileEntity extends GeneratingKineticTileEntity imp
 
 	public void assemble() {
 		Direction direction = getBlockState().get(FACING);
+		pendingContraption = BearingContraption.startAssemblyAt(world, pos, direction);
+		if (pendingContraption != null)
+			continueAssembly();
+	}
+
+	/**
+	 * Large structures are searched over several ticks, blocks are only captured
+	 * and removed once the search has completed. The search is dropped as soon as
+	 * the bearing loses its power or is removed.
+	 */
+	protected void continueAssembly() {
+		BearingContraption contraption = pendingContraption;
+		if (Contraption.isFrozen() || isRemoved() || running || (speed == 0 && !isWindmill)) {
+			pendingContraption = null;
+			return;
+		}
+		SearchState state = contraption.continueSearch(world, AllConfigs.SERVER.kinetics.assemblyStepsPerTick.get());
+		if (state == SearchState.SEARCHING)
+			return;
+		pendingContraption = null;
+		if (state == SearchState.FAILED)
+			return;
 
 		// Collect Construct
-		BearingContraption contraption = BearingContraption.assembleBearingAt(world, pos, direction);
-		if (contraption == null)
+		if (!contraption.finishAssembly(world)) {
+			assembleNextTick = true;
 			return;
+		}
 		if (isWindmill && contraption.getSailBlocks() == 0)
 			return;
 		if (contraption.blocks.isEmpty())
 			return;
+		Direction direction = getBlockState().get(FACING);
 		contraption.removeBlocksFromWorld(world, BlockPos.ZERO);
 		movedContraption = ContraptionEntity.createStationary(world, contraption).controlledBy(this);
 		BlockPos anchor = pos.offset(direction);
@@ -216,6 +244,7 @@ public class MechanicalBearingTileEntity extends GeneratingKineticTileEntity imp
 				}
 				return;
 			} else {
+				pendingContraption = null;
 				if (speed == 0 && !isWindmill)
 					return;
 				assemble();
@@ -223,6 +252,11 @@ public class MechanicalBearingTileEntity extends GeneratingKineticTileEntity imp
 			return;
 		}
 
+		if (!world.isRemote && pendingContraption != null) {
+			continueAssembly();
+			return;
+		}
+
 		if (!running)
 			return;
 
@@ -233,6 +267,8 @@ public class MechanicalBearingTileEntity extends GeneratingKineticTileEntity imp
 		}
 
 		applyRotation();
+		if (movedContraption != null)
+			movedContraption.collisionTick();
 	}
 
 	public boolean isNearInitialAngle() {
@@ -2,11 +2,13 @@ package com.simibubi.create.modules.contraptions.components.contraptions.chassis
 
 import static net.minecraft.state.properties.BlockStateProperties.AXIS;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
 
 import com.simibubi.create.AllBlocks;
@@ -21,6 +23,8 @@ import com.simibubi.create.foundation.utility.Lang;
 import com.simibubi.create.modules.contraptions.components.contraptions.BlockMovementTraits;
 import com.simibubi.create.modules.contraptions.components.contraptions.ChassisRangeDisplay;
 
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.BlockState;
 import net.minecraft.state.properties.BlockStateProperties;
 import net.minecraft.tileentity.TileEntity;
@@ -75,27 +79,25 @@ public class ChassisTileEntity extends SmartTileEntity {
 	}
 
 	public List<ChassisTileEntity> collectChassisGroup() {
-		List<BlockPos> frontier = new ArrayList<>();
+		Queue<BlockPos> frontier = new ArrayDeque<>();
 		List<ChassisTileEntity> collected = new ArrayList<>();
-		Set<BlockPos> visited = new HashSet<>();
+		LongSet visited = new LongOpenHashSet();
 		frontier.add(pos);
 		while (!frontier.isEmpty()) {
-			BlockPos current = frontier.remove(0);
-			if (visited.contains(current))
+			BlockPos current = frontier.poll();
+			if (!visited.add(current.toLong()))
 				continue;
-			visited.add(current);
 			TileEntity tileEntity = world.getTileEntity(current);
 			if (tileEntity instanceof ChassisTileEntity) {
 				ChassisTileEntity chassis = (ChassisTileEntity) tileEntity;
 				collected.add(chassis);
-				visited.add(current);
 				chassis.addAttachedChasses(frontier, visited);
 			}
 		}
 		return collected;
 	}
 
-	public boolean addAttachedChasses(List<BlockPos> frontier, Set<BlockPos> visited) {
+	public boolean addAttachedChasses(Queue<BlockPos> frontier, LongSet visited) {
 		BlockState state = getBlockState();
 		if (!(state.getBlock() instanceof AbstractChassisBlock))
 			return false;
@@ -114,7 +116,7 @@ public class ChassisTileEntity extends SmartTileEntity {
 					continue;
 				if (axis != neighbourState.get(BlockStateProperties.AXIS))
 					continue;
-				if (!visited.contains(currentPos))
+				if (!visited.contains(currentPos.toLong()))
 					frontier.add(currentPos);
 			}
 
@@ -126,7 +128,7 @@ public class ChassisTileEntity extends SmartTileEntity {
 			if (offset.getAxis() == axis)
 				continue;
 			BlockPos current = pos.offset(offset);
-			if (visited.contains(current))
+			if (visited.contains(current.toLong()))
 				continue;
 			if (!world.isBlockPresent(current))
 				return false;
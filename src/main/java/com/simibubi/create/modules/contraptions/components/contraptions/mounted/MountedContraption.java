@@ -2,7 +2,7 @@ package com.simibubi.create.modules.contraptions.components.contraptions.mounted
 
 import static com.simibubi.create.modules.contraptions.components.contraptions.mounted.CartAssemblerBlock.RAIL_SHAPE;
 
-import java.util.List;
+import java.util.Queue;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -54,7 +54,7 @@ public class MountedContraption extends Contraption {
 	}
 
 	@Override
-	protected boolean addToInitialFrontier(World world, BlockPos pos, Direction direction, List<BlockPos> frontier) {
+	protected boolean addToInitialFrontier(World world, BlockPos pos, Direction direction, Queue<BlockPos> frontier) {
 		frontier.clear();
 		frontier.add(pos.up());
 		BlockState state = world.getBlockState(pos);
@@ -7,6 +7,7 @@ import static net.minecraft.state.properties.BlockStateProperties.FACING;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -123,7 +124,7 @@ public class PistonContraption extends Contraption {
 	}
 
 	@Override
-	protected boolean addToInitialFrontier(World world, BlockPos pos, Direction direction, List<BlockPos> frontier) {
+	protected boolean addToInitialFrontier(World world, BlockPos pos, Direction direction, Queue<BlockPos> frontier) {
 		frontier.clear();
 		boolean sticky = STICKY_MECHANICAL_PISTON.typeOf(world.getBlockState(pos.offset(orientation, -1)));
 		boolean retracting = direction != orientation;
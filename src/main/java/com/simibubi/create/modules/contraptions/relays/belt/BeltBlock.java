@@ -119,7 +119,7 @@ public class BeltBlock extends HorizontalKineticBlock
 				return;
 			if (te.isController()) {
 				BeltInventory inv = te.getInventory();
-				for (TransportedItemStack s : inv.items)
+				for (TransportedItemStack s : inv.getItems())
 					inv.eject(s);
 			}
 		});
@@ -191,6 +191,7 @@ public class BeltBlock extends HorizontalKineticBlock
 		BeltTileEntity controller = (BeltTileEntity) controllerTE;
 		if (controller == null || controller.passengers == null)
 			return;
+		controller.wakeUp();
 		if (controller.passengers.containsKey(entityIn)) {
 			TransportedEntityInfo info = controller.passengers.get(entityIn);
 			if (info.ticksSinceLastCollision != 0 || pos.equals(entityIn.getPosition()))
@@ -461,9 +462,9 @@ public class BeltBlock extends HorizontalKineticBlock
 
 				if (te.isController() && isVertical) {
 					BeltInventory inventory = te.getInventory();
-					for (TransportedItemStack s : inventory.items)
+					for (TransportedItemStack s : inventory.getItems())
 						inventory.eject(s);
-					inventory.items.clear();
+					inventory.clear();
 				}
 			} else {
 				world.destroyBlock(pos, true);
@@ -506,7 +507,7 @@ public class BeltBlock extends HorizontalKineticBlock
 				BeltTileEntity te = (BeltTileEntity) tileEntity;
 				if (te.isController()) {
 					BeltInventory inv = te.getInventory();
-					for (TransportedItemStack stack : inv.items)
+					for (TransportedItemStack stack : inv.getItems())
 						inv.eject(stack);
 				}
 
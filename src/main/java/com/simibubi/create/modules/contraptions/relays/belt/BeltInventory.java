@@ -1,18 +1,25 @@
 package com.simibubi.create.modules.contraptions.relays.belt;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import com.simibubi.create.AllBlocks;
+import com.simibubi.create.AllPackets;
 import com.simibubi.create.foundation.utility.ServerSpeedProvider;
 import com.simibubi.create.foundation.utility.VecHelper;
 import com.simibubi.create.modules.contraptions.relays.belt.AllBeltAttachments.BeltAttachmentState;
 import com.simibubi.create.modules.contraptions.relays.belt.BeltBlock.Slope;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.item.ItemEntity;
@@ -29,32 +36,60 @@ import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.ItemHandlerHelper;
 
 public class BeltInventory {
 
+	private static final int INITIAL_CAPACITY = 8;
+	private static final Comparator<TransportedItemStack> BY_POSITION =
+		(a, b) -> Float.compare(a.beltPosition, b.beltPosition);
+
 	final BeltTileEntity belt;
-	final List<TransportedItemStack> items;
+	/**
+	 * Ordered by position on the belt, lowest first. The direction of the belt only
+	 * decides from which end the items are processed.
+	 */
+	TransportedItemStack[] items;
+	int itemCount;
 	final List<TransportedItemStack> toInsert;
+	final Map<TransportedItemStack, Integer> changes;
 	boolean beltMovementPositive;
+	int nextItemId;
 	final float SEGMENT_WINDOW = .75f;
 
+	// Segments and tunnels of the chain, indexed by belt offset
+	private BeltTileEntity[] segments;
+	private BeltTunnelTileEntity[] tunnels;
+	private boolean[] tunnelsResolved;
+
+	// Runs of items jammed behind a stalled item, by the item they are stuck behind
+	private Object2IntMap<TransportedItemStack> stalledRuns;
+	private Object2IntMap<TransportedItemStack> nextStalledRuns;
+	private int modifications;
+	private int runsRecordedAt;
+	private boolean runsValid;
+
 	public BeltInventory(BeltTileEntity te) {
 		this.belt = te;
-		items = new LinkedList<>();
+		items = new TransportedItemStack[INITIAL_CAPACITY];
 		toInsert = new LinkedList<>();
+		changes = new LinkedHashMap<>();
+		stalledRuns = new Object2IntOpenHashMap<>();
+		stalledRuns.defaultReturnValue(-1);
+		nextStalledRuns = new Object2IntOpenHashMap<>();
+		nextStalledRuns.defaultReturnValue(-1);
 	}
 
 	public void tick() {
 
-		// Reverse item collection if belt just reversed
+		// Items are processed from the other end if belt just reversed
 		if (beltMovementPositive != movingPositive()) {
 			beltMovementPositive = movingPositive();
-			Collections.reverse(items);
+			modifications++;
 			belt.markDirty();
-			belt.sendData();
 		}
 		
 		// Add items from previous cycle
@@ -62,13 +97,20 @@ public class BeltInventory {
 			toInsert.forEach(this::insert);
 			toInsert.clear();
 			belt.markDirty();
-			belt.sendData();
 		}
 
-		// Assuming the first entry is furthest on the belt
+		// Jammed runs from the last tick can be skipped as long as nothing changed
+		boolean skipRuns = runsValid && runsRecordedAt == modifications;
+		int modificationsBefore = modifications;
+		TransportedItemStack runHead = null;
+		TransportedItemStack runTail = null;
+		int runLength = 0;
+		nextStalledRuns.clear();
+
+		// Start with the item furthest on the belt
 		TransportedItemStack stackInFront = null;
 		TransportedItemStack current = null;
-		Iterator<TransportedItemStack> iterator = items.iterator();
+		ItemIterator iterator = new ItemIterator(beltMovementPositive);
 
 		float beltSpeed = belt.getDirectionAwareBeltMovementSpeed();
 		Direction movementFacing = belt.getMovementFacing();
@@ -78,10 +120,26 @@ public class BeltInventory {
 		Items: while (iterator.hasNext()) {
 			stackInFront = current;
 			current = iterator.next();
+
+			// Items stuck behind a stalled item stay where they are
+			if (skipRuns && stackInFront != null && stackInFront.beltPosition == stackInFront.prevBeltPosition
+					&& modifications == modificationsBefore) {
+				int stalled = stalledRuns.getInt(stackInFront);
+				if (stalled != -1 && iterator.remaining() >= stalled - 1) {
+					nextStalledRuns.put(stackInFront, stalled);
+					current = iterator.skip(stalled - 1);
+					runHead = stackInFront;
+					runTail = current;
+					runLength = stalled;
+					continue;
+				}
+			}
+
 			current.prevBeltPosition = current.beltPosition;
 			current.prevSideOffset = current.sideOffset;
 
 			if (current.stack.isEmpty()) {
+				markChanged(current, BeltItemSyncPacket.REMOVED);
 				iterator.remove();
 				current = null;
 				continue;
@@ -99,8 +157,20 @@ public class BeltInventory {
 			float currentPos = current.beltPosition;
 			if (stackInFront != null) {
 				float diff = stackInFront.beltPosition - currentPos;
-				if (Math.abs(diff) <= spacing)
+				if (Math.abs(diff) <= spacing) {
+					if (runTail != null && stackInFront == runTail)
+						runLength++;
+					else if (stackInFront.beltPosition == stackInFront.prevBeltPosition) {
+						runHead = stackInFront;
+						runLength = 1;
+					} else
+						runHead = null;
+
+					runTail = runHead != null ? current : null;
+					if (runHead != null)
+						nextStalledRuns.put(runHead, runLength);
 					continue;
+				}
 				movement =
 					beltMovementPositive ? Math.min(movement, diff - spacing) : Math.max(movement, diff + spacing);
 			}
@@ -133,7 +203,7 @@ public class BeltInventory {
 						if (!current.locked || current.stack.isEmpty()) {
 							if (!attachments.isEmpty())
 								attachments.add(attachments.remove(0));
-							belt.sendData();
+							markChanged(current, BeltItemSyncPacket.STACK | BeltItemSyncPacket.POSITION);
 						}
 						continue;
 					}
@@ -151,11 +221,11 @@ public class BeltInventory {
 						if (attachmentState.attachment.startProcessingItem(beltSegment, current, attachmentState)) {
 							current.beltPosition = segment + .5f + (beltMovementPositive ? 1 / 64f : -1 / 64f);
 							current.locked = true;
-							belt.sendData();
+							markChanged(current, BeltItemSyncPacket.STACK | BeltItemSyncPacket.POSITION);
 							continue Items;
 						}
 						if (!stackBefore.equals(current.stack, true))
-							belt.sendData();
+							markChanged(current, BeltItemSyncPacket.STACK);
 					}
 				}
 			}
@@ -192,12 +262,17 @@ public class BeltInventory {
 			// Item changed segments
 			World world = belt.getWorld();
 			if (segmentBefore != segmentAfter) {
+				if (segmentAfter != -1)
+					markChanged(current, BeltItemSyncPacket.POSITION);
 				for (int segment : new int[] { segmentBefore, segmentAfter }) {
 					if (segment == -1)
 						continue;
-					if (!world.isRemote)
-						world.updateComparatorOutputLevel(getPositionForOffset(segment),
-								belt.getBlockState().getBlock());
+					if (world.isRemote)
+						continue;
+					BeltTileEntity beltSegment = getBeltSegment(segment);
+					world.updateComparatorOutputLevel(
+							beltSegment != null ? beltSegment.getPos() : getPositionForOffset(segment),
+							belt.getBlockState().getBlock());
 				}
 			}
 
@@ -225,13 +300,13 @@ public class BeltInventory {
 								continue;
 
 							current.stack = remainder;
+							markChanged(current, BeltItemSyncPacket.STACK);
 							if (remainder.isEmpty()) {
+								markChanged(current, BeltItemSyncPacket.REMOVED);
 								iterator.remove();
 								current = null;
 								flapTunnel(lastOffset, movementFacing, false);
 							}
-
-							belt.sendData();
 						}
 					}
 					continue;
@@ -241,10 +316,10 @@ public class BeltInventory {
 				if (!AllBlocks.BELT.typeOf(state)) {
 					if (!Block.hasSolidSide(state, world, nextPosition, movementFacing.getOpposite())) {
 						eject(current);
+						markChanged(current, BeltItemSyncPacket.REMOVED);
 						iterator.remove();
 						current = null;
 						flapTunnel(lastOffset, movementFacing, false);
-						belt.sendData();
 					}
 					continue;
 				}
@@ -262,29 +337,32 @@ public class BeltInventory {
 
 				// Inserting into other belt
 				if (nextBelt.tryInsertingFromSide(movementFacing, current, false)) {
+					markChanged(current, BeltItemSyncPacket.REMOVED);
 					iterator.remove();
 					current = null;
 					flapTunnel(lastOffset, movementFacing, false);
-					belt.sendData();
 				}
 
 			}
 
 		}
 
+		Object2IntMap<TransportedItemStack> recorded = nextStalledRuns;
+		nextStalledRuns = stalledRuns;
+		stalledRuns = recorded;
+		runsValid = modifications == modificationsBefore;
+		runsRecordedAt = modifications;
+
+		sendChanges();
 	}
 
 	private boolean stuckAtTunnel(int offset, ItemStack stack, Direction movementDirection) {
-		BlockPos pos = getPositionForOffset(offset).up();
-		if (!AllBlocks.BELT_TUNNEL.typeOf(belt.getWorld().getBlockState(pos)))
-			return false;
-		TileEntity te = belt.getWorld().getTileEntity(pos);
-		if (te == null || !(te instanceof BeltTunnelTileEntity))
+		BeltTunnelTileEntity tunnel = getTunnel(offset);
+		if (tunnel == null)
 			return false;
 
 		Direction flapFacing = movementDirection.getOpposite();
 
-		BeltTunnelTileEntity tunnel = (BeltTunnelTileEntity) te;
 		if (!tunnel.flaps.containsKey(flapFacing))
 			return false;
 		if (!tunnel.syncedFlaps.containsKey(flapFacing))
@@ -292,7 +370,6 @@ public class BeltInventory {
 		ItemStack heldItem = tunnel.syncedFlaps.get(flapFacing);
 		if (heldItem == null) {
 			tunnel.syncedFlaps.put(flapFacing, ItemStack.EMPTY);
-			belt.sendData();
 			return false;
 		}
 		if (heldItem == ItemStack.EMPTY) {
@@ -300,7 +377,8 @@ public class BeltInventory {
 			return true;
 		}
 
-		List<BeltTunnelTileEntity> group = BeltTunnelBlock.getSynchronizedGroup(belt.getWorld(), pos, flapFacing);
+		List<BeltTunnelTileEntity> group =
+			BeltTunnelBlock.getSynchronizedGroup(belt.getWorld(), tunnel.getPos(), flapFacing);
 		for (BeltTunnelTileEntity otherTunnel : group)
 			if (otherTunnel.syncedFlaps.get(flapFacing) == ItemStack.EMPTY)
 				return true;
@@ -313,13 +391,10 @@ public class BeltInventory {
 	private void flapTunnel(int offset, Direction side, boolean inward) {
 		if (belt.getBlockState().get(BeltBlock.SLOPE) != Slope.HORIZONTAL)
 			return;
-		BlockPos pos = getPositionForOffset(offset).up();
-		if (!AllBlocks.BELT_TUNNEL.typeOf(belt.getWorld().getBlockState(pos)))
+		BeltTunnelTileEntity tunnel = getTunnel(offset);
+		if (tunnel == null)
 			return;
-		TileEntity te = belt.getWorld().getTileEntity(pos);
-		if (te == null || !(te instanceof BeltTunnelTileEntity))
-			return;
-		((BeltTunnelTileEntity) te).flap(side, inward ^ side.getAxis() == Axis.Z);
+		tunnel.flap(side, inward ^ side.getAxis() == Axis.Z);
 	}
 
 	public boolean canInsertAt(int segment) {
@@ -335,8 +410,10 @@ public class BeltInventory {
 		else if (!beltMovementPositive)
 			segmentPos += 1f;
 
-		for (TransportedItemStack stack : items) 
-			if (isBlocking(segment, side, segmentPos, stack))
+		int from = beltMovementPositive ? 0 : lowerBound(segmentPos - 1);
+		int to = beltMovementPositive ? upperBound(segmentPos + 1) : itemCount;
+		for (int i = from; i < to; i++)
+			if (isBlocking(segment, side, segmentPos, items[i]))
 				return false;
 		for (TransportedItemStack stack : toInsert) 
 			if (isBlocking(segment, side, segmentPos, stack))
@@ -355,50 +432,189 @@ public class BeltInventory {
 
 	public void addItem(TransportedItemStack newStack) {
 		toInsert.add(newStack);
+		belt.wakeUp();
+	}
+
+	public boolean isEmpty() {
+		return itemCount == 0 && toInsert.isEmpty() && changes.isEmpty();
 	}
 	
 	private void insert(TransportedItemStack newStack) {
-		if (items.isEmpty())
-			items.add(newStack);
-		else {
-			int index = 0;
-			for (TransportedItemStack stack : items) {
-				if (stack.compareTo(newStack) > 0 == beltMovementPositive)
-					break;
-				index++;
-			}
-			items.add(index, newStack);
+		newStack.id = nextItemId++;
+		markChanged(newStack, BeltItemSyncPacket.INSERTED);
+		add(newStack);
+	}
+
+	private void add(TransportedItemStack newStack) {
+		modifications++;
+		if (itemCount == items.length)
+			items = Arrays.copyOf(items, items.length * 2);
+		int index = upperBound(newStack.beltPosition);
+		System.arraycopy(items, index, items, index + 1, itemCount - index);
+		items[index] = newStack;
+		itemCount++;
+	}
+
+	private void removeAt(int index) {
+		modifications++;
+		itemCount--;
+		System.arraycopy(items, index + 1, items, index, itemCount - index);
+		items[itemCount] = null;
+	}
+
+	/**
+	 * @return the index of the first item at or after the given position
+	 */
+	private int lowerBound(float position) {
+		int low = 0;
+		int high = itemCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (items[mid].beltPosition < position)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * @return the index of the first item after the given position
+	 */
+	private int upperBound(float position) {
+		int low = 0;
+		int high = itemCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (items[mid].beltPosition <= position)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	public List<TransportedItemStack> getItems() {
+		return Collections.unmodifiableList(Arrays.asList(items).subList(0, itemCount));
+	}
+
+	public void clear() {
+		modifications++;
+		for (int i = 0; i < itemCount; i++) {
+			markChanged(items[i], BeltItemSyncPacket.REMOVED);
+			items[i] = null;
 		}
+		itemCount = 0;
 	}
 
 	public TransportedItemStack getStackAtOffset(int offset) {
 		float min = offset + .5f - (SEGMENT_WINDOW / 2);
 		float max = offset + .5f + (SEGMENT_WINDOW / 2);
-		for (TransportedItemStack stack : items) {
-			if (stack.beltPosition > max)
-				break;
-			if (stack.beltPosition > min)
-				return stack;
-		}
+		int index = upperBound(min);
+		if (index < itemCount && items[index].beltPosition <= max)
+			return items[index];
 		return null;
 	}
 
 	public void read(CompoundNBT nbt) {
-		items.clear();
-		nbt.getList("Items", NBT.TAG_COMPOUND)
-				.forEach(inbt -> items.add(TransportedItemStack.read((CompoundNBT) inbt)));
+		ListNBT itemsNBT = nbt.getList("Items", NBT.TAG_COMPOUND);
+		items = new TransportedItemStack[Math.max(INITIAL_CAPACITY, itemsNBT.size())];
+		itemCount = 0;
+		itemsNBT.forEach(inbt -> items[itemCount++] = TransportedItemStack.read((CompoundNBT) inbt));
+		Arrays.sort(items, 0, itemCount, BY_POSITION);
 		beltMovementPositive = nbt.getBoolean("PositiveOrder");
+		modifications++;
+
+		// Belts saved before items had ids
+		if (!nbt.contains("NextItemId")) {
+			nextItemId = 0;
+			for (int i = 0; i < itemCount; i++)
+				items[i].id = nextItemId++;
+			return;
+		}
+		nextItemId = nbt.getInt("NextItemId");
 	}
 
 	public CompoundNBT write() {
 		CompoundNBT nbt = new CompoundNBT();
 		ListNBT itemsNBT = new ListNBT();
-		items.forEach(stack -> itemsNBT.add(stack.serializeNBT()));
+		for (int i = 0; i < itemCount; i++)
+			itemsNBT.add(items[i].serializeNBT());
 		nbt.put("Items", itemsNBT);
 		nbt.putBoolean("PositiveOrder", beltMovementPositive);
+		nbt.putInt("NextItemId", nextItemId);
 		return nbt;
 	}
 
+	/**
+	 * Remembers that an item has to be synced to the client. Changes are collected
+	 * during the tick and sent in a single packet by {@link #sendChanges()}.
+	 * Items only moving along the belt keep recorded jammed runs valid.
+	 */
+	void markChanged(TransportedItemStack stack, int change) {
+		if ((change & ~BeltItemSyncPacket.POSITION) != 0)
+			modifications++;
+		World world = belt.getWorld();
+		if (world == null || world.isRemote)
+			return;
+		changes.merge(stack, change, (a, b) -> a | b);
+	}
+
+	void sendChanges() {
+		if (changes.isEmpty())
+			return;
+		BeltItemSyncPacket packet = new BeltItemSyncPacket(belt.getPos());
+		changes.forEach(packet::add);
+		changes.clear();
+		if (packet.isEmpty())
+			return;
+
+		World world = belt.getWorld();
+		BlockPos pos = belt.getPos();
+		AllPackets.channel.send(PacketDistributor.TRACKING_CHUNK.with(() -> world.getChunkAt(pos)), packet);
+	}
+
+	void applyChanges(List<BeltItemSyncPacket.Change> synced) {
+		belt.wakeUp();
+		modifications++;
+		boolean moved = false;
+		for (BeltItemSyncPacket.Change change : synced) {
+			if ((change.flags & BeltItemSyncPacket.INSERTED) != 0) {
+				if (indexOf(change.id) == -1)
+					add(TransportedItemStack.read(change.item));
+				continue;
+			}
+
+			int index = indexOf(change.id);
+			if (index == -1)
+				continue;
+			if ((change.flags & BeltItemSyncPacket.REMOVED) != 0) {
+				removeAt(index);
+				continue;
+			}
+			TransportedItemStack stack = items[index];
+			if ((change.flags & BeltItemSyncPacket.STACK) != 0)
+				stack.stack = change.stack;
+			if ((change.flags & BeltItemSyncPacket.POSITION) != 0) {
+				stack.beltPosition = change.beltPosition;
+				stack.sideOffset = change.sideOffset;
+				stack.locked = change.locked;
+				moved = true;
+			}
+		}
+
+		// Corrections may have swapped neighbouring items
+		if (moved)
+			Arrays.sort(items, 0, itemCount, BY_POSITION);
+	}
+
+	private int indexOf(int id) {
+		for (int i = 0; i < itemCount; i++)
+			if (items[i].id == id)
+				return i;
+		return -1;
+	}
+
 	public void eject(TransportedItemStack stack) {
 		ItemStack ejected = stack.stack;
 		Vec3d outPos = getVectorForOffset(stack.beltPosition);
@@ -431,13 +647,64 @@ public class BeltInventory {
 	}
 
 	private BeltTileEntity getBeltSegment(int segment) {
+		if (segment < 0 || segment >= belt.beltLength)
+			return null;
+		validateSegmentCache();
+
+		BeltTileEntity cached = segments[segment];
+		if (cached != null && !cached.isRemoved())
+			return cached;
+
 		BlockPos pos = getPositionForOffset(segment);
 		TileEntity te = belt.getWorld().getTileEntity(pos);
 		if (te == null || !(te instanceof BeltTileEntity))
 			return null;
+		segments[segment] = (BeltTileEntity) te;
 		return (BeltTileEntity) te;
 	}
 
+	private BeltTunnelTileEntity getTunnel(int segment) {
+		if (segment < 0 || segment >= belt.beltLength)
+			return findTunnel(segment);
+		validateSegmentCache();
+
+		BeltTunnelTileEntity cached = tunnels[segment];
+		if (tunnelsResolved[segment] && (cached == null || !cached.isRemoved()))
+			return cached;
+
+		tunnels[segment] = findTunnel(segment);
+		tunnelsResolved[segment] = true;
+		return tunnels[segment];
+	}
+
+	private BeltTunnelTileEntity findTunnel(int segment) {
+		BlockPos pos = getPositionForOffset(segment).up();
+		if (!AllBlocks.BELT_TUNNEL.typeOf(belt.getWorld().getBlockState(pos)))
+			return null;
+		TileEntity te = belt.getWorld().getTileEntity(pos);
+		if (te == null || !(te instanceof BeltTunnelTileEntity))
+			return null;
+		return (BeltTunnelTileEntity) te;
+	}
+
+	private void validateSegmentCache() {
+		if (segments != null && segments.length == belt.beltLength)
+			return;
+		segments = new BeltTileEntity[belt.beltLength];
+		tunnels = new BeltTunnelTileEntity[belt.beltLength];
+		tunnelsResolved = new boolean[belt.beltLength];
+	}
+
+	/**
+	 * Forget the cached segments and tunnels. Called whenever a part of the chain
+	 * or a tunnel on top of it is added, removed or unloaded.
+	 */
+	public void invalidateSegmentCache() {
+		segments = null;
+		tunnels = null;
+		tunnelsResolved = null;
+	}
+
 	private BlockPos getPositionForOffset(int offset) {
 		BlockPos pos = belt.getPos();
 		Vec3i vec = belt.getBeltFacing().getDirectionVec();
@@ -460,21 +727,72 @@ public class BeltInventory {
 			Function<TransportedItemStack, List<TransportedItemStack>> callback) {
 		List<TransportedItemStack> toBeAdded = new ArrayList<>();
 		boolean dirty = false;
-		for (Iterator<TransportedItemStack> iterator = items.iterator(); iterator.hasNext();) {
-			TransportedItemStack transportedItemStack = iterator.next();
-			if (Math.abs(position - transportedItemStack.beltPosition) < distance) {
-				List<TransportedItemStack> apply = callback.apply(transportedItemStack);
-				if (apply == null)
-					continue;
-				dirty = true;
-				toBeAdded.addAll(apply);
-				iterator.remove();
-			}
+		for (int i = lowerBound(position + distance) - 1; i >= 0; i--) {
+			TransportedItemStack transportedItemStack = items[i];
+			if (position - transportedItemStack.beltPosition >= distance)
+				break;
+			List<TransportedItemStack> apply = callback.apply(transportedItemStack);
+			if (apply == null)
+				continue;
+			dirty = true;
+			toBeAdded.addAll(apply);
+			markChanged(transportedItemStack, BeltItemSyncPacket.REMOVED);
+			removeAt(i);
 		}
 		toBeAdded.forEach(this::insert);
-		if (dirty) {
+		if (dirty)
 			belt.markDirty();
-			belt.sendData();
+	}
+
+	/**
+	 * Walks the items from one end of the belt to the other, supporting removal of
+	 * the current item.
+	 */
+	private class ItemIterator implements Iterator<TransportedItemStack> {
+		private int step;
+		private int next;
+		private int last;
+
+		ItemIterator(boolean descending) {
+			step = descending ? -1 : 1;
+			next = descending ? itemCount - 1 : 0;
+			last = -1;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next >= 0 && next < itemCount;
+		}
+
+		@Override
+		public TransportedItemStack next() {
+			last = next;
+			next += step;
+			return items[last];
+		}
+
+		@Override
+		public void remove() {
+			removeAt(last);
+			if (step > 0)
+				next--;
+			last = -1;
+		}
+
+		int remaining() {
+			return step > 0 ? itemCount - next : next + 1;
+		}
+
+		/**
+		 * Moves past the given amount of items without visiting them.
+		 *
+		 * @return the last item skipped over, or the current one if none
+		 */
+		TransportedItemStack skip(int count) {
+			if (count == 0)
+				return items[last];
+			next += step * (count - 1);
+			return next();
 		}
 	}
 
@@ -0,0 +1,130 @@
+package com.simibubi.create.modules.contraptions.relays.belt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.simibubi.create.foundation.packet.SimplePacketBase;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Carries the changes made to the items of a belt during one tick. Items are
+ * referenced by their id, only newly inserted items are sent in full.
+ */
+public class BeltItemSyncPacket extends SimplePacketBase {
+
+	public static final int INSERTED = 1;
+	public static final int REMOVED = 2;
+	public static final int STACK = 4;
+	public static final int POSITION = 8;
+
+	BlockPos controller;
+	List<Change> changes;
+
+	public BeltItemSyncPacket(BlockPos controller) {
+		this.controller = controller;
+		changes = new ArrayList<>();
+	}
+
+	public BeltItemSyncPacket(PacketBuffer buffer) {
+		controller = buffer.readBlockPos();
+		int size = buffer.readVarInt();
+		changes = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			Change change = new Change(buffer.readByte(), buffer.readVarInt());
+			if ((change.flags & INSERTED) != 0)
+				change.item = buffer.readCompoundTag();
+			if ((change.flags & STACK) != 0)
+				change.stack = buffer.readItemStack();
+			if ((change.flags & POSITION) != 0) {
+				change.beltPosition = buffer.readFloat();
+				change.sideOffset = buffer.readFloat();
+				change.locked = buffer.readBoolean();
+			}
+			changes.add(change);
+		}
+	}
+
+	public void add(TransportedItemStack transported, int flags) {
+		if ((flags & INSERTED) != 0 && (flags & REMOVED) != 0)
+			return;
+		if ((flags & INSERTED) != 0)
+			flags = INSERTED;
+		if ((flags & REMOVED) != 0)
+			flags = REMOVED;
+
+		Change change = new Change(flags, transported.id);
+		if ((flags & INSERTED) != 0)
+			change.item = transported.serializeNBT();
+		if ((flags & STACK) != 0)
+			change.stack = transported.stack.copy();
+		if ((flags & POSITION) != 0) {
+			change.beltPosition = transported.beltPosition;
+			change.sideOffset = transported.sideOffset;
+			change.locked = transported.locked;
+		}
+		changes.add(change);
+	}
+
+	public boolean isEmpty() {
+		return changes.isEmpty();
+	}
+
+	@Override
+	public void write(PacketBuffer buffer) {
+		buffer.writeBlockPos(controller);
+		buffer.writeVarInt(changes.size());
+		for (Change change : changes) {
+			buffer.writeByte(change.flags);
+			buffer.writeVarInt(change.id);
+			if ((change.flags & INSERTED) != 0)
+				buffer.writeCompoundTag(change.item);
+			if ((change.flags & STACK) != 0)
+				buffer.writeItemStack(change.stack);
+			if ((change.flags & POSITION) != 0) {
+				buffer.writeFloat(change.beltPosition);
+				buffer.writeFloat(change.sideOffset);
+				buffer.writeBoolean(change.locked);
+			}
+		}
+	}
+
+	@Override
+	public void handle(Supplier<Context> context) {
+		context.get().enqueueWork(() -> DistExecutor.runWhenOn(Dist.CLIENT, () -> () -> {
+			TileEntity te = Minecraft.getInstance().world.getTileEntity(controller);
+			if (!(te instanceof BeltTileEntity))
+				return;
+			BeltTileEntity belt = (BeltTileEntity) te;
+			if (!belt.isController())
+				return;
+			belt.getInventory().applyChanges(changes);
+		}));
+		context.get().setPacketHandled(true);
+	}
+
+	static class Change {
+		int flags;
+		int id;
+		CompoundNBT item;
+		ItemStack stack;
+		float beltPosition;
+		float sideOffset;
+		boolean locked;
+
+		Change(int flags, int id) {
+			this.flags = flags;
+			this.id = id;
+		}
+	}
+
+}
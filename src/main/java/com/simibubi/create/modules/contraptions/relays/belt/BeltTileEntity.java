@@ -49,11 +49,13 @@ public class BeltTileEntity extends KineticTileEntity {
 	public int index;
 	public Direction lastInsert;
 
+	protected boolean sleeping;
 	protected BlockPos controller;
 	protected BeltInventory inventory;
 	protected LazyOptional<IItemHandler> itemHandler;
 
 	private CompoundNBT trackerUpdateTag;
+	private boolean writingToClient;
 
 	public BeltTileEntity() {
 		super(AllTileEntities.BELT.type);
@@ -66,6 +68,7 @@ public class BeltTileEntity extends KineticTileEntity {
 	@Override
 	public void initialize() {
 		super.initialize();
+		invalidateSegmentCache();
 	}
 
 	@Override
@@ -81,20 +84,24 @@ public class BeltTileEntity extends KineticTileEntity {
 			attachmentTracker.readAndSearch(trackerUpdateTag, this);
 			trackerUpdateTag = null;
 		}
-		if (getSpeed() == 0)
+		if (getSpeed() == 0) {
+			if (isController() && !world.isRemote)
+				getInventory().sendChanges();
 			return;
+		}
 
 		initializeItemHandler();
 
 		// Move Items
 		if (!isController())
 			return;
-		getInventory().tick();
-
-		// Move Entities
 		if (passengers == null)
 			passengers = new HashMap<>();
+		if (sleeping)
+			return;
+		getInventory().tick();
 
+		// Move Entities
 		List<Entity> toRemove = new ArrayList<>();
 		passengers.forEach((entity, info) -> {
 			boolean canBeTransported = BeltMovementHandler.canBeTransported(entity);
@@ -109,6 +116,33 @@ public class BeltTileEntity extends KineticTileEntity {
 			BeltMovementHandler.transportEntity(this, entity, info);
 		});
 		toRemove.forEach(passengers::remove);
+
+		// Nothing left to move
+		if (passengers.isEmpty() && getInventory().isEmpty())
+			sleeping = true;
+	}
+
+	/**
+	 * Resumes ticking the items and passengers of this belt's controller.
+	 */
+	public void wakeUp() {
+		if (isController()) {
+			sleeping = false;
+			return;
+		}
+		BeltTileEntity controllerTE = getControllerTE();
+		if (controllerTE != null)
+			controllerTE.sleeping = false;
+	}
+
+	public boolean isSleeping() {
+		return sleeping;
+	}
+
+	@Override
+	public void onSpeedChanged(float previousSpeed) {
+		super.onSpeedChanged(previousSpeed);
+		wakeUp();
 	}
 
 	@Override
@@ -156,6 +190,21 @@ public class BeltTileEntity extends KineticTileEntity {
 	public void remove() {
 		super.remove();
 		itemHandler.invalidate();
+		invalidateSegmentCache();
+	}
+
+	@Override
+	public void onChunkUnloaded() {
+		super.onChunkUnloaded();
+		invalidateSegmentCache();
+	}
+
+	protected void invalidateSegmentCache() {
+		if (world == null)
+			return;
+		BeltInventory inventory = getInventory();
+		if (inventory != null)
+			inventory.invalidateSegmentCache();
 	}
 
 	@Override
@@ -167,7 +216,7 @@ public class BeltTileEntity extends KineticTileEntity {
 		compound.putInt("Length", beltLength);
 		compound.putInt("Index", index);
 
-		if (isController())
+		if (isController() && !writingToClient)
 			compound.put("Inventory", getInventory().write());
 		return super.write(compound);
 	}
@@ -186,8 +235,19 @@ public class BeltTileEntity extends KineticTileEntity {
 		beltLength = compound.getInt("Length");
 		index = compound.getInt("Index");
 
-		if (isController())
+		if (isController() && compound.contains("Inventory"))
 			getInventory().read(compound.getCompound("Inventory"));
+		sleeping = false;
+	}
+
+	@Override
+	public CompoundNBT writeToClient(CompoundNBT compound) {
+		// Items are kept in sync by BeltItemSyncPacket after the chunk was sent, so
+		// the inventory is not even serialized for update packets
+		writingToClient = true;
+		CompoundNBT tag = super.writeToClient(compound);
+		writingToClient = false;
+		return tag;
 	}
 
 	public void applyColor(DyeColor colorIn) {
@@ -348,8 +408,8 @@ public class BeltTileEntity extends KineticTileEntity {
 		transportedStack.insertedFrom = side;
 		transportedStack.prevBeltPosition = transportedStack.beltPosition;
 		nextInventory.addItem(transportedStack);
+		nextBeltController.wakeUp();
 		nextBeltController.markDirty();
-		nextBeltController.sendData();
 
 		return true;
 	}
@@ -107,7 +107,7 @@ public class BeltTileEntityRenderer extends SafeTileEntityRenderer<BeltTileEntit
 		int verticality = slope == Slope.DOWNWARD ? -1 : slope == Slope.UPWARD ? 1 : 0;
 		boolean slopeAlongX = te.getBeltFacing().getAxis() == Axis.X;
 
-		for (TransportedItemStack transported : te.getInventory().items) {
+		for (TransportedItemStack transported : te.getInventory().getItems()) {
 			GlStateManager.pushMatrix();
 			TessellatorHelper.fightZFighting(transported.angle);
 			float offset = MathHelper.lerp(partialTicks, transported.prevBeltPosition, transported.beltPosition);
@@ -70,6 +70,24 @@ public class BeltTunnelTileEntity extends SyncedTileEntity implements ITickableT
 	public void remove() {
 		super.remove();
 		cap.invalidate();
+		invalidateBeltSegments();
+	}
+
+	@Override
+	public void onChunkUnloaded() {
+		super.onChunkUnloaded();
+		invalidateBeltSegments();
+	}
+
+	protected void invalidateBeltSegments() {
+		if (world == null)
+			return;
+		TileEntity te = world.getTileEntity(pos.down());
+		if (!(te instanceof BeltTileEntity))
+			return;
+		BeltInventory inventory = ((BeltTileEntity) te).getInventory();
+		if (inventory != null)
+			inventory.invalidateSegmentCache();
 	}
 
 	@Override
@@ -145,6 +163,7 @@ public class BeltTunnelTileEntity extends SyncedTileEntity implements ITickableT
 		}
 
 		initialize = false;
+		invalidateBeltSegments();
 		flaps.clear();
 		BlockState tunnelState = getBlockState();
 		for (Direction direction : Direction.values()) {
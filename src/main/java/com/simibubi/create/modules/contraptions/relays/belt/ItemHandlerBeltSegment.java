@@ -36,7 +36,6 @@ public class ItemHandlerBeltSegment implements IItemHandler {
 				newStack.prevBeltPosition = newStack.beltPosition;
 				this.beltInventory.addItem(newStack);
 				this.beltInventory.belt.markDirty();
-				this.beltInventory.belt.sendData();
 			}
 			return ItemStack.EMPTY;
 		}
@@ -52,8 +51,8 @@ public class ItemHandlerBeltSegment implements IItemHandler {
 		amount = Math.min(amount, transported.stack.getCount());
 		ItemStack extracted = simulate ? transported.stack.copy().split(amount) : transported.stack.split(amount);
 		if (!simulate) {
+			this.beltInventory.markChanged(transported, BeltItemSyncPacket.STACK);
 			this.beltInventory.belt.markDirty();
-			this.beltInventory.belt.sendData();
 		}
 		return extracted;
 	}
@@ -16,6 +16,7 @@ public class TransportedItemStack implements Comparable<TransportedItemStack> {
 	public int insertedAt;
 	public Direction insertedFrom;
 	public boolean locked;
+	public int id;
 
 	public float prevBeltPosition;
 	public float prevSideOffset;
@@ -68,6 +69,7 @@ public class TransportedItemStack implements Comparable<TransportedItemStack> {
 		nbt.putInt("Angle", angle);
 		nbt.putInt("InDirection", insertedFrom.getIndex());
 		nbt.putBoolean("Locked", locked);
+		nbt.putInt("Id", id);
 		return nbt;
 	}
 
@@ -81,6 +83,7 @@ public class TransportedItemStack implements Comparable<TransportedItemStack> {
 		stack.angle = nbt.getInt("Angle");
 		stack.insertedFrom = Direction.byIndex(nbt.getInt("InDirection"));
 		stack.locked = nbt.getBoolean("Locked");
+		stack.id = nbt.getInt("Id");
 		return stack;
 	}
 
@@ -43,6 +43,11 @@ public class StressGaugeTileEntity extends GaugeTileEntity {
 		markDirty();
 	}
 
+	@Override
+	public boolean observesNetworkStress() {
+		return true;
+	}
+
 	@Override
 	public void onSpeedChanged(float prevSpeed) {
 		super.onSpeedChanged(prevSpeed);
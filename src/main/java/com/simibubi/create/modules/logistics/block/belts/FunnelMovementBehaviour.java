@@ -11,7 +11,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraftforge.items.ItemHandlerHelper;
 
 public class FunnelMovementBehaviour extends MovementBehaviour {
 
@@ -27,7 +26,7 @@ public class FunnelMovementBehaviour extends MovementBehaviour {
 			ItemStack toInsert = item.getItem();
 			if (!filter.isEmpty() && !FilterItem.test(context.world, toInsert, filter))
 				continue;
-			ItemStack remainder = ItemHandlerHelper.insertItemStacked(context.contraption.inventory, toInsert, false);
+			ItemStack remainder = context.contraption.inventory.insertIndexed(toInsert);
 			if (remainder.getCount() == toInsert.getCount())
 				continue;
 			if (remainder.isEmpty()) {